@@ -0,0 +1,171 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.migration;
+
+import com.mojang.slicer.library.Box;
+import com.mojang.slicer.library.GridOutputFile;
+import com.mojang.slicer.library.InputFile;
+import com.mojang.slicer.library.Migration;
+import com.mojang.slicer.library.OutputFile;
+import com.mojang.slicer.library.SimpleOutputFile;
+import com.mojang.slicer.library.Transform;
+
+import java.util.List;
+
+public final class To1_14 implements Migration {
+    private static Box b256(final int x, final int y, final int w, final int h) {
+        return new Box(x, y, w, h, 256, 256);
+    }
+
+    private static Box b128(final int x, final int y, final int w, final int h) {
+        return new Box(x, y, w, h, 128, 128);
+    }
+
+    private static OutputFile gridSprite(final String path, final int x, final int y, final int w, final int h, final int xOff, final int yOff, final int xScale, final int yScale) {
+        return new SimpleOutputFile(path, b256(xScale * x + xOff, yScale * y + yOff, w * xScale, h * yScale));
+    }
+
+    private static OutputFile painting(final String path, final int x, final int y, final int w, final int h) {
+        return gridSprite("assets/minecraft/textures/painting/" + path + ".png", x, y, w, h, 0, 0, 16, 16);
+    }
+
+    private static OutputFile particle(final String path, final int x, final int y, final int w, final int h) {
+        return gridSprite("assets/minecraft/textures/particle/" + path + ".png", x, y, w, h, 0, 0, 8, 8);
+    }
+
+    private static OutputFile explosion(final String path, final int x, final int y) {
+        return new SimpleOutputFile("assets/minecraft/textures/particle/" + path + ".png", b128(32 * x, 32 * y, 32, 32));
+    }
+
+    private static OutputFile particle(final String path, final int x, final int y, final int xOff, final int yOff, final int w, final int h) {
+        return gridSprite("assets/minecraft/textures/particle/" + path + ".png", x, y, w, h, xOff, yOff, 8, 8);
+    }
+
+    private static OutputFile sweep(final int i, final int x, final int y) {
+        return new SimpleOutputFile("assets/minecraft/textures/particle/sweep_" + i + ".png", new Box(32 * x, 16 * y, 32, 16, 128, 32)).apply(Transform.square());
+    }
+
+    private static InputFile input(final String path, final OutputFile... outputs) {
+        return new InputFile(path).outputs(outputs);
+    }
+
+    private static final List<InputFile> INPUTS = List.of(
+        input("assets/minecraft/textures/painting/paintings_kristoffer_zetterstrand.png",
+            painting("back", 15, 0, 1, 1),
+
+            painting("kebab", 0, 0, 1, 1),
+            painting("aztec", 1, 0, 1, 1),
+            painting("alban", 2, 0, 1, 1),
+            painting("aztec2", 3, 0, 1, 1),
+            painting("bomb", 4, 0, 1, 1),
+            painting("plant", 5, 0, 1, 1),
+            painting("wasteland", 6, 0, 1, 1),
+            painting("pool", 0, 2, 2, 1),
+            painting("courbet", 2, 2, 2, 1),
+            painting("sea", 4, 2, 2, 1),
+            painting("sunset", 6, 2, 2, 1),
+            painting("creebet", 8, 2, 2, 1),
+            painting("wanderer", 0, 4, 1, 2),
+            painting("graham", 1, 4, 1, 2),
+            painting("match", 0, 8, 2, 2),
+            painting("bust", 2, 8, 2, 2),
+            painting("stage", 4, 8, 2, 2),
+            painting("void", 6, 8, 2, 2),
+            painting("skull_and_roses", 8, 8, 2, 2),
+            painting("wither", 10, 8, 2, 2),
+            painting("fighters", 0, 6, 4, 2),
+            painting("pointer", 0, 12, 4, 4),
+            painting("pigscene", 4, 12, 4, 4),
+            painting("burning_skull", 8, 12, 4, 4),
+            painting("skeleton", 12, 4, 4, 3),
+            painting("donkey_kong", 12, 7, 4, 3)
+        ),
+        input("assets/minecraft/textures/gui/container/inventory.png",
+            new GridOutputFile("assets/minecraft/textures/mob_effect", b256(0, 198, 18, 18))
+                .row(0, "speed", "slowness", "haste", "mining_fatigue", "strength", "weakness", "poison", "regeneration", "slow_falling", "conduit_power", "dolphins_grace")
+                .row(1, "invisibility", "hunger", "jump_boost", "nausea", "night_vision", "blindness", "resistance", "fire_resistance")
+                .row(2, "water_breathing", "wither", "absorption", "levitation", "glowing", "luck", "unluck", "health_boost")
+        ),
+        input("assets/minecraft/textures/particle/particles.png",
+            new GridOutputFile("assets/minecraft/textures/particle", b256(0, 0, 8, 8))
+                .row(0, "generic_0", "generic_1", "generic_2", "generic_3", "generic_4", "generic_5", "generic_6", "generic_7")
+                .row(1, null, null, null, "splash_0", "splash_1", "splash_2", "splash_3")
+                .row(2, "bubble")
+                .row(3, "flame", "lava")
+                .row(4, "note", "critical_hit", "enchanted_hit", "damage")
+                .row(5, "heart", "angry", "glint")
+                .row(7, "drip_hang", "drip_fall", "drip_land")
+                .row(8, "effect_0", "effect_1", "effect_2", "effect_3", "effect_4", "effect_5", "effect_6", "effect_7")
+                .row(9, "spell_0", "spell_1", "spell_2", "spell_3", "spell_4", "spell_5", "spell_6", "spell_7")
+                .row(10, "spark_0", "spark_1", "spark_2", "spark_3", "spark_4", "spark_5", "spark_6", "spark_7")
+                .row(11, "glitter_0", "glitter_1", "glitter_2", "glitter_3", "glitter_4", "glitter_5", "glitter_6", "glitter_7")
+                .row(13, "nautilus")
+                .row(14, null, "sga_a", "sga_b", "sga_c", "sga_d", "sga_e", "sga_f", "sga_g", "sga_h", "sga_i", "sga_j", "sga_k", "sga_l", "sga_m", "sga_n", "sga_o")
+                .row(15, "sga_p", "sga_q", "sga_r", "sga_s", "sga_t", "sga_u", "sga_v", "sga_w", "sga_x", "sga_y", "sga_z"),
+
+            particle("bubble_pop_0", 0 * 2, 16, 0, 3, 2, 2),
+            particle("bubble_pop_1", 1 * 2, 16, 0, 3, 2, 2),
+            particle("bubble_pop_2", 2 * 2, 16, 0, 3, 2, 2),
+            particle("bubble_pop_3", 3 * 2, 16, 0, 3, 2, 2),
+            particle("bubble_pop_4", 4 * 2, 16, 0, 3, 2, 2),
+
+            particle("flash", 4, 2, 4, 4),
+
+            new SimpleOutputFile("assets/minecraft/textures/entity/fishing_hook.png", b256(8 * 1, 8 * 2, 8, 8))
+        ),
+        input("assets/minecraft/textures/entity/explosion.png",
+            explosion("explosion_0", 0, 0),
+            explosion("explosion_1", 1, 0),
+            explosion("explosion_2", 2, 0),
+            explosion("explosion_3", 3, 0),
+
+            explosion("explosion_4", 0, 1),
+            explosion("explosion_5", 1, 1),
+            explosion("explosion_6", 2, 1),
+            explosion("explosion_7", 3, 1),
+
+            explosion("explosion_8", 0, 2),
+            explosion("explosion_9", 1, 2),
+            explosion("explosion_10", 2, 2),
+            explosion("explosion_11", 3, 2),
+
+            explosion("explosion_12", 0, 3),
+            explosion("explosion_13", 1, 3),
+            explosion("explosion_14", 2, 3),
+            explosion("explosion_15", 3, 3)
+        ),
+        input("assets/minecraft/textures/entity/sweep.png",
+            sweep(0, 0, 0),
+            sweep(1, 1, 0),
+            sweep(2, 2, 0),
+            sweep(3, 3, 0),
+            sweep(4, 0, 1),
+            sweep(5, 1, 1),
+            sweep(6, 2, 1),
+            sweep(7, 3, 1)
+        )
+    );
+
+    @Override
+    public String version() {
+        return "1.14";
+    }
+
+    @Override
+    public boolean appliesTo(final int packFormat) {
+        // 1.14 introduced pack format 4
+        return packFormat < 4;
+    }
+
+    @Override
+    public int sourcePackFormat() {
+        // 1.13 packs use pack format 3
+        return 3;
+    }
+
+    @Override
+    public List<InputFile> inputs() {
+        return INPUTS;
+    }
+}
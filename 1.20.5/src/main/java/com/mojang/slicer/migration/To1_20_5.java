@@ -0,0 +1,49 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.migration;
+
+import com.mojang.slicer.library.Box;
+import com.mojang.slicer.library.GridOutputFile;
+import com.mojang.slicer.library.InputFile;
+import com.mojang.slicer.library.Migration;
+import com.mojang.slicer.library.OutputFile;
+
+import java.util.List;
+
+public final class To1_20_5 implements Migration {
+    private static InputFile input(final String path, final OutputFile... outputs) {
+        return new InputFile(path).outputs(outputs);
+    }
+
+    private static final List<InputFile> INPUTS = List.of(
+        input("assets/minecraft/textures/map/map_icons.png",
+            new GridOutputFile("assets/minecraft/textures/map/decorations", new Box(0, 0, 8, 8, 128, 128))
+                .row(0, "player", "frame", "red_marker", "blue_marker", "target_x", "target_point", "player_off_map", "player_off_limits", "woodland_mansion", "ocean_monument", "white_banner", "orange_banner", "magenta_banner", "light_blue_banner", "yellow_banner", "lime_banner")
+                .row(1, "pink_banner", "gray_banner", "light_gray_banner", "cyan_banner", "purple_banner", "blue_banner", "brown_banner", "green_banner", "red_banner", "black_banner", "red_x", "desert_village", "plains_village", "savanna_village", "snowy_village", "taiga_village")
+                .row(2, "jungle_temple", "swamp_hut")
+        )
+    );
+
+    @Override
+    public String version() {
+        return "1.20.5";
+    }
+
+    @Override
+    public boolean appliesTo(final int packFormat) {
+        // 1.20.5 introduced pack format 32
+        return packFormat < 32;
+    }
+
+    @Override
+    public int sourcePackFormat() {
+        // 1.20.3 and 1.20.4 packs use pack format 22
+        return 22;
+    }
+
+    @Override
+    public List<InputFile> inputs() {
+        return INPUTS;
+    }
+}
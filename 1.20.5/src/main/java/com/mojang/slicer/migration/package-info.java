@@ -0,0 +1,4 @@
+@NullMarked
+package com.mojang.slicer.migration;
+
+import org.jspecify.annotations.NullMarked;
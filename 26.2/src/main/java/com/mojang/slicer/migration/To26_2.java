@@ -0,0 +1,434 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.migration;
+
+import com.mojang.slicer.library.Box;
+import com.mojang.slicer.library.Dihedral;
+import com.mojang.slicer.library.InputFile;
+import com.mojang.slicer.library.Migration;
+import com.mojang.slicer.library.MultipartOutputFile;
+import com.mojang.slicer.library.OutputFile;
+import com.mojang.slicer.library.SimpleOutputFile;
+import com.mojang.slicer.library.TransformedBox;
+
+import java.util.List;
+
+public final class To26_2 implements Migration {
+    private static InputFile input(final String path, final OutputFile... outputs) {
+        return new InputFile(path).outputs(outputs);
+    }
+
+    private final List<InputFile> inputs;
+
+    // The tool for 26.2 alone has always taken the assets directory as its input. The launcher reads whole packs, and
+    // passes "assets/" as the root
+    public To26_2() {
+        this("");
+    }
+
+    public To26_2(final String root) {
+        this.inputs = inputs(root);
+    }
+
+    private static List<InputFile> inputs(final String root) {
+        return List.of(
+                makeStaticBedPartProcessor(root),
+                makeBedProcessor(root, "black"),
+                makeBedProcessor(root, "blue"),
+                makeBedProcessor(root, "brown"),
+                makeBedProcessor(root, "cyan"),
+                makeBedProcessor(root, "gray"),
+                makeBedProcessor(root, "green"),
+                makeBedProcessor(root, "light_blue"),
+                makeBedProcessor(root, "light_gray"),
+                makeBedProcessor(root, "lime"),
+                makeBedProcessor(root, "magenta"),
+                makeBedProcessor(root, "orange"),
+                makeBedProcessor(root, "pink"),
+                makeBedProcessor(root, "purple"),
+                makeBedProcessor(root, "red"),
+                makeBedProcessor(root, "white"),
+                makeBedProcessor(root, "yellow"),
+                makeStandingSignProcessor(root, "acacia"),
+                makeStandingSignProcessor(root, "birch"),
+                makeStandingSignProcessor(root, "crimson"),
+                makeStandingSignProcessor(root, "mangrove"),
+                makeStandingSignProcessor(root, "pale_oak"),
+                makeStandingSignProcessor(root, "warped"),
+                makeStandingSignProcessor(root, "bamboo"),
+                makeStandingSignProcessor(root, "cherry"),
+                makeStandingSignProcessor(root, "dark_oak"),
+                makeStandingSignProcessor(root, "jungle"),
+                makeStandingSignProcessor(root, "oak"),
+                makeStandingSignProcessor(root, "spruce"),
+                makeHangingSignProcessor(root, "acacia"),
+                makeHangingSignProcessor(root, "birch"),
+                makeHangingSignProcessor(root, "crimson"),
+                makeHangingSignProcessor(root, "mangrove"),
+                makeHangingSignProcessor(root, "pale_oak"),
+                makeHangingSignProcessor(root, "warped"),
+                makeHangingSignProcessor(root, "bamboo"),
+                makeHangingSignProcessor(root, "cherry"),
+                makeHangingSignProcessor(root, "dark_oak"),
+                makeHangingSignProcessor(root, "jungle"),
+                makeHangingSignProcessor(root, "oak"),
+                makeHangingSignProcessor(root, "spruce")
+        );
+    }
+
+    private static InputFile makeStaticBedPartProcessor(final String root) {
+        return input(root + "minecraft/textures/entity/bed/black.png",
+                new SimpleOutputFile(root + "minecraft/textures/block/bed_down.png", new Box(28, 6, 16, 16, 64, 64)).apply(Dihedral.ROTATE_180),
+                new MultipartOutputFile(root + "minecraft/textures/block/bed_head_north.png", 16, 16,
+                        new TransformedBox(
+                                new Box(6, 0, 16, 6, 64, 64),
+                                List.of(Dihedral.ROTATE_180),
+                                0,
+                                7
+                        ),
+                        new TransformedBox(
+                                new Box(53, 21, 3, 3, 64, 64),
+                                List.of(),
+                                0,
+                                13
+                        ),
+                        new TransformedBox(
+                                new Box(56, 21, 3, 3, 64, 64),
+                                List.of(),
+                                3,
+                                13
+                        ),
+                        new TransformedBox(
+                                new Box(59, 9, 3, 3, 64, 64),
+                                List.of(),
+                                10,
+                                13
+                        ),
+                        new TransformedBox(
+                                new Box(50, 9, 3, 3, 64, 64),
+                                List.of(),
+                                13,
+                                13
+                        )
+                )
+        );
+    }
+
+    private static InputFile makeBedProcessor(final String root, final String color) {
+        return input(root + "minecraft/textures/entity/bed/" + color + ".png",
+                new SimpleOutputFile(root + "minecraft/textures/block/" + color + "_bed_head_up.png", new Box(6, 6, 16, 16, 64, 64)),
+                new SimpleOutputFile(root + "minecraft/textures/block/" + color + "_bed_foot_up.png", new Box(6, 28, 16, 16, 64, 64)),
+                new MultipartOutputFile(root + "minecraft/textures/block/" + color + "_bed_foot_south.png", 16, 16,
+                        new TransformedBox(
+                                new Box(22, 22, 16, 6, 64, 64),
+                                List.of(Dihedral.MIRROR_VERTICALLY),
+                                0,
+                                7
+                        ),
+                        new TransformedBox(
+                                new Box(53, 3, 3, 3, 64, 64),
+                                List.of(),
+                                0,
+                                13
+                        ),
+                        new TransformedBox(
+                                new Box(56, 3, 3, 3, 64, 64),
+                                List.of(),
+                                3,
+                                13
+                        ),
+                        new TransformedBox(
+                                new Box(59, 15, 3, 3, 64, 64),
+                                List.of(),
+                                10,
+                                13
+                        ),
+                        new TransformedBox(
+                                new Box(50, 15, 3, 3, 64, 64),
+                                List.of(),
+                                13,
+                                13
+                        )
+                ),
+                new MultipartOutputFile(root + "minecraft/textures/block/" + color + "_bed_foot_west.png", 16, 16,
+                        new TransformedBox(
+                                new Box(0, 28, 6, 16, 64, 64),
+                                List.of(Dihedral.ROTATE_270),
+                                0,
+                                7
+                        ),
+                        new TransformedBox(
+                                new Box(56, 0, 3, 3, 64, 64),
+                                List.of(Dihedral.MIRROR_VERTICALLY),
+                                7,
+                                13
+                        ),
+                        new TransformedBox(
+                                new Box(59, 3, 3, 3, 64, 64),
+                                List.of(),
+                                10,
+                                13
+                        ),
+                        new TransformedBox(
+                                new Box(50, 3, 3, 3, 64, 64),
+                                List.of(),
+                                13,
+                                13
+                        )
+                ),
+                new MultipartOutputFile(root + "minecraft/textures/block/" + color + "_bed_foot_east.png", 16, 16,
+                        new TransformedBox(
+                                new Box(22, 28, 6, 16, 64, 64),
+                                List.of(Dihedral.ROTATE_90),
+                                0,
+                                7
+                        ),
+                        new TransformedBox(
+                                new Box(53, 15, 3, 3, 64, 64),
+                                List.of(),
+                                0,
+                                13
+                        ),
+                        new TransformedBox(
+                                new Box(56, 15, 3, 3, 64, 64),
+                                List.of(),
+                                3,
+                                13
+                        ),
+                        new TransformedBox(
+                                new Box(56, 12, 3, 3, 64, 64),
+                                List.of(Dihedral.ROTATE_270, Dihedral.MIRROR_VERTICALLY),
+                                6,
+                                13
+                        )
+                ),
+                new MultipartOutputFile(root + "minecraft/textures/block/" + color + "_bed_head_east.png", 16, 16,
+                        new TransformedBox(
+                                new Box(22, 6, 6, 16, 64, 64),
+                                List.of(Dihedral.ROTATE_90),
+                                0,
+                                7
+                        ),
+                        new TransformedBox(
+                                new Box(56, 18, 3, 3, 64, 64),
+                                List.of(Dihedral.ROTATE_180, Dihedral.MIRROR_VERTICALLY),
+                                7,
+                                13
+                        ),
+                        new TransformedBox(
+                                new Box(59, 21, 3, 3, 64, 64),
+                                List.of(),
+                                10,
+                                13
+                        ),
+                        new TransformedBox(
+                                new Box(50, 21, 3, 3, 64, 64),
+                                List.of(),
+                                13,
+                                13
+                        )
+                ),
+                new MultipartOutputFile(root + "minecraft/textures/block/" + color + "_bed_head_west.png", 16, 16,
+                        new TransformedBox(
+                                new Box(0, 6, 6, 16, 64, 64),
+                                List.of(Dihedral.ROTATE_270),
+                                0,
+                                7
+                        ),
+                        new TransformedBox(
+                                new Box(53, 9, 3, 3, 64, 64),
+                                List.of(),
+                                0,
+                                13
+                        ),
+                        new TransformedBox(
+                                new Box(56, 9, 3, 3, 64, 64),
+                                List.of(),
+                                3,
+                                13
+                        ),
+                        new TransformedBox(
+                                new Box(56, 6, 3, 3, 64, 64),
+                                List.of(Dihedral.ROTATE_90, Dihedral.MIRROR_VERTICALLY),
+                                6,
+                                13
+                        )
+                )
+        );
+    }
+
+    private static InputFile makeStandingSignProcessor(final String root, final String woodType) {
+        return input(root + "minecraft/textures/entity/signs/" + woodType + ".png",
+                new MultipartOutputFile(root + "minecraft/textures/gui/signs/" + woodType + ".png", 24, 26,
+                        new TransformedBox(
+                                new Box(2, 2, 24, 12, 64, 32),
+                                List.of(),
+                                0,
+                                0
+                        ),
+                        new TransformedBox(
+                                new Box(2, 16, 2, 14, 64, 32),
+                                List.of(),
+                                11,
+                                12
+                        )
+                ),
+                new MultipartOutputFile(root + "minecraft/textures/block/" + woodType + "_sign.png", 32, 32,
+                        new TransformedBox(
+                                new Box(2, 0, 24, 14, 64, 32),
+                                List.of(),
+                                0,
+                                0
+                        ),
+                        new TransformedBox(
+                                new Box(26, 2, 2, 12, 64, 32),
+                                List.of(),
+                                24,
+                                2
+                        ),
+                        new TransformedBox(
+                                new Box(28, 2, 24, 12, 64, 32),
+                                List.of(),
+                                0,
+                                16
+                        ),
+                        new TransformedBox(
+                                new Box(0, 2, 2, 12, 64, 32),
+                                List.of(),
+                                24,
+                                16
+                        ),
+                        new TransformedBox(
+                                new Box(26, 0, 24, 2, 64, 32),
+                                List.of(Dihedral.MIRROR_VERTICALLY),
+                                0,
+                                28
+                        ),
+                        new TransformedBox(
+                                new Box(2, 16, 4, 14, 64, 32),
+                                List.of(),
+                                28,
+                                0
+                        ),
+                        new TransformedBox(
+                                new Box(6, 16, 2, 14, 64, 32),
+                                List.of(),
+                                28,
+                                16
+                        ),
+                        new TransformedBox(
+                                new Box(0, 16, 2, 14, 64, 32),
+                                List.of(),
+                                30,
+                                16
+                        ),
+                        new TransformedBox(
+                                new Box(4, 14, 2, 2, 64, 32),
+                                List.of(Dihedral.MIRROR_VERTICALLY),
+                                28,
+                                30
+                        )
+                )
+        );
+    }
+
+    private static InputFile makeHangingSignProcessor(final String root, final String woodType) {
+        return input(root + "minecraft/textures/entity/signs/hanging/" + woodType + ".png",
+                new MultipartOutputFile(root + "minecraft/textures/block/" + woodType + "_hanging_sign.png", 32, 32,
+                        new TransformedBox(
+                                // west - front - east - back
+                                new Box(0, 14, 32, 10, 64, 32),
+                                List.of(),
+                                0,
+                                16
+                        ),
+                        new TransformedBox(
+                                // up
+                                new Box(2, 12, 14, 2, 64, 32),
+                                List.of(),
+                                2,
+                                14
+                        ),
+                        new TransformedBox(
+                                // down
+                                new Box(16, 12, 14, 2, 64, 32),
+                                List.of(Dihedral.MIRROR_VERTICALLY),
+                                2,
+                                26
+                        ),
+                        new TransformedBox(
+                                // bar: up - front
+                                new Box(4, 0, 16, 6, 64, 32),
+                                List.of(),
+                                0,
+                                0
+                        ),
+                        new TransformedBox(
+                                // bar: down
+                                new Box(20, 0, 16, 4, 64, 32),
+                                List.of(Dihedral.ROTATE_180),
+                                0,
+                                9
+                        ),
+                        new TransformedBox(
+                                // bar: east
+                                new Box(20, 4, 4, 2, 64, 32),
+                                List.of(),
+                                16,
+                                4
+                        ),
+                        new TransformedBox(
+                                // bar: back
+                                new Box(24, 4, 16, 2, 64, 32),
+                                List.of(),
+                                0,
+                                7
+                        ),
+                        new TransformedBox(
+                                // bar: west
+                                new Box(0, 4, 4, 2, 64, 32),
+                                List.of(),
+                                16,
+                                7
+                        ),
+                        new TransformedBox(
+                                // chain angled
+                                new Box(14, 6, 12, 6, 64, 32),
+                                List.of(),
+                                20,
+                                0
+                        ),
+                        new TransformedBox(
+                                // chain straight
+                                new Box(0, 6, 9, 6, 64, 32),
+                                List.of(),
+                                22,
+                                7
+                        )
+                )
+        );
+    }
+
+    @Override
+    public String version() {
+        return "26.2";
+    }
+
+    @Override
+    public boolean appliesTo(final int packFormat) {
+        // 26.2 has no pack format to compare against yet, so every pack is taken to still use the old bed and sign layouts
+        return true;
+    }
+
+    @Override
+    public int sourcePackFormat() {
+        // Any format after 1.20.5 has the old bed and sign layouts, 1.21.7 and 1.21.8 packs use pack format 64
+        return 64;
+    }
+
+    @Override
+    public List<InputFile> inputs() {
+        return inputs;
+    }
+}
@@ -0,0 +1,47 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.benchmark;
+
+import com.mojang.slicer.library.PngReader;
+import com.mojang.slicer.library.PngWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CodecBenchmark {
+    @Param({"16", "32", "64", "128", "256", "512", "1024"})
+    public int resolution;
+
+    private BufferedImage image;
+    private byte[] png;
+
+    @Setup
+    public void setup() throws IOException {
+        image = Textures.entity(resolution);
+        png = PngWriter.DEFAULT.encode(image);
+    }
+
+    @Benchmark
+    public BufferedImage decode() throws IOException {
+        return PngReader.read(ByteBuffer.wrap(png));
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return PngWriter.DEFAULT.encode(image);
+    }
+}
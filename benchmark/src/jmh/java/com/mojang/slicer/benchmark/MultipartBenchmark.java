@@ -0,0 +1,54 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.benchmark;
+
+import com.mojang.slicer.library.Box;
+import com.mojang.slicer.library.Dihedral;
+import com.mojang.slicer.library.TransformedBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Assembles the 26.2 bed_head_north texture from its five parts
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MultipartBenchmark {
+    private static final List<TransformedBox> BED_HEAD_NORTH = List.of(
+            new TransformedBox(new Box(6, 0, 16, 6, 64, 64), List.of(Dihedral.ROTATE_180), 0, 7),
+            new TransformedBox(new Box(53, 21, 3, 3, 64, 64), List.of(), 0, 13),
+            new TransformedBox(new Box(56, 21, 3, 3, 64, 64), List.of(), 3, 13),
+            new TransformedBox(new Box(59, 9, 3, 3, 64, 64), List.of(), 10, 13),
+            new TransformedBox(new Box(50, 9, 3, 3, 64, 64), List.of(), 13, 13)
+    );
+
+    @Param({"16", "32", "64", "128", "256", "512", "1024"})
+    public int resolution;
+
+    private BufferedImage atlas;
+
+    @Setup
+    public void setup() {
+        atlas = Textures.entity(resolution);
+    }
+
+    @Benchmark
+    public BufferedImage bedHeadNorth() {
+        final int size = 16 * atlas.getWidth() / 64;
+        final BufferedImage output = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        for (final TransformedBox box : BED_HEAD_NORTH) {
+            box.process(atlas, output);
+        }
+        return output;
+    }
+}
@@ -0,0 +1,35 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+final class Textures {
+    private Textures() {
+    }
+
+    // A 64x64 entity texture (like a bed) at the given pack resolution, 16 being vanilla
+    static BufferedImage entity(final int resolution) {
+        final int size = 64 * resolution / 16;
+        return noise(size, size, resolution);
+    }
+
+    // Smooth gradients with a little per-pixel noise and some transparent areas, so PNG filters and deflate behave
+    // roughly like they do on real textures
+    static BufferedImage noise(final int width, final int height, final long seed) {
+        final Random random = new Random(seed);
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                final int alpha = (x / 8 + y / 8) % 7 == 0 ? 0 : 0xff;
+                final int red = (x * 255 / width + random.nextInt(16)) & 0xff;
+                final int green = (y * 255 / height + random.nextInt(16)) & 0xff;
+                final int blue = ((x + y) * 127 / (width + height) + random.nextInt(16)) & 0xff;
+                image.setRGB(x, y, alpha << 24 | red << 16 | green << 8 | blue);
+            }
+        }
+        return image;
+    }
+}
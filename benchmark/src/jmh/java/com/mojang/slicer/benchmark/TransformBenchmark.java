@@ -0,0 +1,83 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.benchmark;
+
+import com.mojang.slicer.library.Box;
+import com.mojang.slicer.library.Dihedral;
+import com.mojang.slicer.library.TransformedBox;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Operations on a single 16x16 face of a bed texture, as the 26.2 migration does for every part
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransformBenchmark {
+    private static final Box FACE = new Box(28, 6, 16, 16, 64, 64);
+
+    @Param({"16", "32", "64", "128", "256", "512", "1024"})
+    public int resolution;
+
+    private BufferedImage atlas;
+    private BufferedImage face;
+    private TransformedBox crop;
+    private TransformedBox chained;
+
+    @Setup
+    public void setup() {
+        atlas = Textures.entity(resolution);
+        face = atlas.getSubimage(FACE.scaleX(atlas.getWidth()), FACE.scaleY(atlas.getHeight()), FACE.scaleW(atlas.getWidth()), FACE.scaleH(atlas.getHeight()));
+        crop = new TransformedBox(FACE, List.of(), 0, 0);
+        chained = new TransformedBox(FACE, List.of(Dihedral.ROTATE_270, Dihedral.MIRROR_VERTICALLY), 0, 0);
+    }
+
+    @Benchmark
+    public BufferedImage crop() {
+        final BufferedImage output = new BufferedImage(face.getWidth(), face.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        crop.process(atlas, output);
+        return output;
+    }
+
+    @Benchmark
+    public BufferedImage rotate90() {
+        return TransformedBox.rotate90(face);
+    }
+
+    @Benchmark
+    public BufferedImage rotate180() {
+        return TransformedBox.rotate180(face);
+    }
+
+    @Benchmark
+    public BufferedImage rotate270() {
+        return TransformedBox.rotate270(face);
+    }
+
+    @Benchmark
+    public BufferedImage mirrorVertically() {
+        return TransformedBox.mirrorVertically(face);
+    }
+
+    @Benchmark
+    public BufferedImage mirrorHorizontally() {
+        return TransformedBox.mirrorHorizontally(face);
+    }
+
+    @Benchmark
+    public BufferedImage chained() {
+        final BufferedImage output = new BufferedImage(face.getWidth(), face.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        chained.process(atlas, output);
+        return output;
+    }
+}
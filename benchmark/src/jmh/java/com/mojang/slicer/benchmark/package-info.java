@@ -0,0 +1,4 @@
+@NullMarked
+package com.mojang.slicer.benchmark;
+
+import org.jspecify.annotations.NullMarked;
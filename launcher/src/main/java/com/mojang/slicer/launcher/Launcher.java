@@ -0,0 +1,85 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.launcher;
+
+import com.mojang.slicer.library.Migration;
+import com.mojang.slicer.library.Slicer;
+import com.mojang.slicer.migration.To1_14;
+import com.mojang.slicer.migration.To1_20_2;
+import com.mojang.slicer.migration.To1_20_5;
+import com.mojang.slicer.migration.To26_2;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
+
+// Runs every migration a pack still needs, oldest first, in one go
+public class Launcher {
+    private static final String USAGE = "Usage: [--pack-format <number>] [--to <version>] [<options>] <input dir or zip> <output dir or zip> [<leftover dir or zip>]";
+    // In the order they have to run in
+    private static final List<Migration> MIGRATIONS = List.of(new To1_14(), new To1_20_2(), new To1_20_5(), new To26_2("assets/"));
+
+    public static void main(final String[] argv) throws IOException {
+        if (argv.length > 0 && argv[0].equals("serve")) {
+            Server.parse(Arrays.copyOfRange(argv, 1, argv.length)).run();
+            return;
+        }
+        Integer packFormat = null;
+        String target = null;
+        final List<String> slicerArgs = new ArrayList<>();
+        for (int i = 0; i < argv.length; i++) {
+            final String arg = argv[i];
+            switch (arg) {
+                case "--pack-format" -> packFormat = Slicer.parseNumber(Slicer.optionValue(argv, ++i, arg, USAGE), arg, 1, Integer.MAX_VALUE);
+                case "--to" -> target = Slicer.optionValue(argv, ++i, arg, USAGE);
+                default -> slicerArgs.add(arg);
+            }
+        }
+        checkVersion(target);
+
+        final Slicer slicer = Slicer.parse(slicerArgs.toArray(String[]::new));
+        if (packFormat == null) {
+            final OptionalInt declared = slicer.packFormat();
+            if (declared.isEmpty()) {
+                throw new IllegalArgumentException("Input has no pack.mcmeta with a pack_format, pass one with --pack-format\n" + USAGE);
+            }
+            packFormat = declared.getAsInt();
+        }
+
+        final List<Migration> migrations = migrations(packFormat, target);
+        if (migrations.isEmpty()) {
+            System.out.println("Pack format " + packFormat + " needs no migration");
+            return;
+        }
+        System.out.println("Migrating pack format " + packFormat + " to " + String.join(", then ", migrations.stream().map(Migration::version).toList()));
+        slicer.process(migrations.stream().map(Migration::inputs).toList());
+    }
+
+    static List<Migration> all() {
+        return MIGRATIONS;
+    }
+
+    // The migrations a pack of this format needs, up to and including the target version if there is one
+    static List<Migration> migrations(final int packFormat, final @Nullable String target) {
+        final List<Migration> migrations = new ArrayList<>();
+        for (final Migration migration : MIGRATIONS) {
+            if (migration.appliesTo(packFormat)) {
+                migrations.add(migration);
+            }
+            if (migration.version().equals(target)) {
+                break;
+            }
+        }
+        return migrations;
+    }
+
+    static void checkVersion(final @Nullable String target) {
+        if (target != null && MIGRATIONS.stream().noneMatch(migration -> migration.version().equals(target))) {
+            throw new IllegalArgumentException("Unknown version " + target + ", expected one of " + MIGRATIONS.stream().map(Migration::version).toList());
+        }
+    }
+}
@@ -0,0 +1,344 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.launcher;
+
+import com.mojang.slicer.library.InputFile;
+import com.mojang.slicer.library.Migration;
+import com.mojang.slicer.library.MigrationPlan;
+import com.mojang.slicer.library.Slicer;
+import com.mojang.slicer.library.SlicerListener;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jspecify.annotations.Nullable;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Keeps the migrations loaded and serves them over HTTP on the loopback interface:
+// POST /migrate?to=<version>&pack-format=<number>&threads=<count>&compression=<0-9> with a pack zip as the body answers
+// with the migrated zip, streamed as it is written, and the errors of the migration in X-Slicer-Error headers.
+// Requests beyond the running and queued ones are turned away with 503
+final class Server {
+    private static final String USAGE = "Usage: serve [--port <number>] [--workers <count>] [--queue <count>] [--max-threads <count>] [--max-upload <megabytes>]";
+    private static final int BUFFER_SIZE = 1 << 16;
+    // Errors beyond these are only counted in X-Slicer-Errors, so a pack missing most textures can't overflow a client
+    private static final int MAX_ERROR_HEADERS = 100;
+    // Names the streamed zip in messages, nothing is written there
+    private static final Path RESPONSE_NAME = Path.of("response.zip");
+    // How long running migrations get to finish on shutdown
+    private static final int STOP_SECONDS = 30;
+
+    private final int port;
+    private final int workers;
+    private final int maxThreads;
+    private final long maxUploadBytes;
+    // Requests running or waiting for a worker, everything beyond is refused
+    private final Semaphore admitted;
+    private final Semaphore running;
+    // Built once, the tables are never changed after construction and are shared by all requests
+    private final Map<String, List<InputFile>> inputs = new HashMap<>();
+    private @Nullable Path uploads;
+    // One pool for every request, instead of one started and stopped per request
+    private @Nullable ForkJoinPool pool;
+
+    private Server(final int port, final int workers, final int queue, final int maxThreads, final int maxUploadMegabytes) {
+        this.port = port;
+        this.workers = workers;
+        this.maxThreads = maxThreads;
+        this.maxUploadBytes = (long) maxUploadMegabytes << 20;
+        this.admitted = new Semaphore(workers + queue);
+        this.running = new Semaphore(workers, true);
+        for (final Migration migration : Launcher.all()) {
+            inputs.put(migration.version(), migration.inputs());
+        }
+    }
+
+    static Server parse(final String[] argv) {
+        int port = 8235;
+        int workers = 1;
+        int queue = 8;
+        int maxThreads = Runtime.getRuntime().availableProcessors();
+        int maxUpload = 256;
+        for (int i = 0; i < argv.length; i++) {
+            final String arg = argv[i];
+            switch (arg) {
+                case "--port" -> port = Slicer.parseNumber(Slicer.optionValue(argv, ++i, arg, USAGE), arg, 0, 65535);
+                case "--workers" -> workers = Slicer.parseNumber(Slicer.optionValue(argv, ++i, arg, USAGE), arg, 1, Integer.MAX_VALUE);
+                case "--queue" -> queue = Slicer.parseNumber(Slicer.optionValue(argv, ++i, arg, USAGE), arg, 0, Integer.MAX_VALUE);
+                case "--max-threads" -> maxThreads = Slicer.parseNumber(Slicer.optionValue(argv, ++i, arg, USAGE), arg, 1, Integer.MAX_VALUE);
+                case "--max-upload" -> maxUpload = Slicer.parseNumber(Slicer.optionValue(argv, ++i, arg, USAGE), arg, 1, Integer.MAX_VALUE);
+                default -> throw new IllegalArgumentException("Unknown option " + arg + "\n" + USAGE);
+            }
+        }
+        return new Server(port, workers, queue, maxThreads, maxUpload);
+    }
+
+    void run() throws IOException {
+        final Path uploads = Files.createTempDirectory("slicer-server");
+        this.uploads = uploads;
+        final ForkJoinPool pool = maxThreads > 1 ? new ForkJoinPool(maxThreads) : null;
+        this.pool = pool;
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        // A couple of threads more than can be admitted, so excess requests are refused instead of left waiting
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(admitted.availablePermits() + 2, runnable -> {
+            final Thread thread = new Thread(runnable, "slicer-http-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/migrate", this::migrate);
+        server.createContext("/versions", this::versions);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            server.stop(0);
+            executor.shutdown();
+            try {
+                executor.awaitTermination(STOP_SECONDS, TimeUnit.SECONDS);
+            } catch (final InterruptedException ignored) {
+            }
+            if (pool != null) {
+                pool.shutdown();
+            }
+            try (final var files = Files.list(uploads)) {
+                for (final Path file : files.toList()) {
+                    Files.deleteIfExists(file);
+                }
+                Files.deleteIfExists(uploads);
+            } catch (final IOException ignored) {
+            }
+        }));
+        server.start();
+        System.out.println("Listening on http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort()
+            + " with " + workers + (workers == 1 ? " worker" : " workers") + " and room for " + (admitted.availablePermits() - workers) + " queued requests");
+    }
+
+    private void versions(final HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                respond(exchange, 405, "Use GET");
+                return;
+            }
+            respond(exchange, 200, String.join("\n", Launcher.all().stream().map(Migration::version).toList()));
+        }
+    }
+
+    private void migrate(final HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            try (exchange) {
+                respond(exchange, 405, "Use POST with a pack zip as the body");
+            }
+            return;
+        }
+        if (!admitted.tryAcquire()) {
+            try (exchange) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                respond(exchange, 503, "Too many requests, try again later");
+            }
+            return;
+        }
+        try {
+            migrateAdmitted(exchange);
+        } finally {
+            admitted.release();
+        }
+        // A migration failing once its zip is streaming throws past this, and HttpServer drops the connection instead,
+        // so the client sees the response cut short rather than ending like a complete zip
+        exchange.close();
+    }
+
+    private void migrateAdmitted(final HttpExchange exchange) throws IOException {
+        final Map<String, String> query;
+        final @Nullable String target;
+        final int threads;
+        final OptionalInt compression;
+        final OptionalInt requestedFormat;
+        try {
+            query = query(exchange.getRequestURI().getRawQuery());
+            target = query.get("to");
+            Launcher.checkVersion(target);
+            // Asking for more than the limit still works, just with fewer threads
+            threads = Math.min(Slicer.parseNumber(query.getOrDefault("threads", "1"), "threads", 1, Integer.MAX_VALUE), maxThreads);
+            compression = number(query, "compression", 0, 9);
+            requestedFormat = number(query, "pack-format", 1, Integer.MAX_VALUE);
+        } catch (final IllegalArgumentException e) {
+            respond(exchange, 400, e.getMessage());
+            return;
+        }
+
+        final Path uploads = this.uploads;
+        if (uploads == null) {
+            throw new IllegalStateException("Server is not running");
+        }
+        // Zips are read by random access, so the pack has to be on disk. The migrated zip is streamed as it is written
+        final Path input = Files.createTempFile(uploads, "input", ".zip");
+        try {
+            if (!receive(exchange.getRequestBody(), input)) {
+                respond(exchange, 413, "Pack is larger than " + (maxUploadBytes >> 20) + " MB");
+                return;
+            }
+            // Workers share the heap, so each gets its part of what a single run would budget for. The only errors a run
+            // reports are the missing inputs its plan already found, which the response carries
+            final Slicer slicer = new Slicer(input, RESPONSE_NAME, null).threads(threads).pool(pool).memoryBudget(Runtime.getRuntime().maxMemory() / 2 / workers).listener(SlicerListener.NONE);
+            if (compression.isPresent()) {
+                slicer.compression(compression.getAsInt());
+            }
+            process(exchange, slicer, requestedFormat, target);
+        } finally {
+            Files.deleteIfExists(input);
+        }
+    }
+
+    // Runs the migrations the pack needs with the migrated zip streamed as the response, unless it answers with an error
+    // before starting
+    private void process(final HttpExchange exchange, final Slicer slicer, final OptionalInt requestedFormat, final @Nullable String target) throws IOException {
+        final int packFormat;
+        final List<String> versions;
+        final List<List<InputFile>> stages;
+        try {
+            checkZip(slicer);
+            if (requestedFormat.isPresent()) {
+                packFormat = requestedFormat.getAsInt();
+            } else {
+                final OptionalInt declared = slicer.packFormat();
+                if (declared.isEmpty()) {
+                    respond(exchange, 400, "Pack has no pack.mcmeta with a pack_format, pass one with pack-format");
+                    return;
+                }
+                packFormat = declared.getAsInt();
+            }
+            versions = Launcher.migrations(packFormat, target).stream().map(Migration::version).toList();
+            exchange.getResponseHeaders().set("X-Slicer-Migrations", String.join(", ", versions));
+            if (versions.isEmpty()) {
+                exchange.sendResponseHeaders(204, -1);
+                return;
+            }
+
+            // Packs seldom have every texture a migration reads, so missing ones are passed on instead of failing the
+            // request. A pack that has none of them is not migrated at all though
+            stages = versions.stream().map(inputs::get).toList();
+            final List<MigrationPlan> plans = slicer.plan(stages);
+            final List<String> errors = plans.stream().flatMap(plan -> plan.problems().stream()).toList();
+            exchange.getResponseHeaders().set("X-Slicer-Errors", Integer.toString(errors.size()));
+            errors.stream().limit(MAX_ERROR_HEADERS).forEach(error -> exchange.getResponseHeaders().add("X-Slicer-Error", error));
+            if (plans.stream().allMatch(plan -> plan.inputs().stream().allMatch(input -> input.outputs().isEmpty()))) {
+                respond(exchange, 422, "Nothing to migrate, the pack has none of the files the migrations read\n" + String.join("\n", errors));
+                return;
+            }
+        } catch (final IllegalArgumentException e) {
+            respond(exchange, 400, e.getMessage());
+            return;
+        } catch (final IOException | RuntimeException e) {
+            System.err.println("Failed to migrate a pack: " + e);
+            respond(exchange, 500, "Migration failed: " + e.getMessage());
+            return;
+        }
+
+        running.acquireUninterruptibly();
+        final long start = System.nanoTime();
+        try {
+            exchange.getResponseHeaders().set("Content-Type", "application/zip");
+            // The size is only known once the zip is complete, so it goes out in chunks
+            exchange.sendResponseHeaders(200, 0);
+            slicer.outputStream(new ResponseBody(exchange.getResponseBody())).process(stages);
+        } catch (final IOException | RuntimeException e) {
+            System.err.println("Failed to migrate a pack after starting the response: " + e);
+            throw e;
+        } finally {
+            running.release();
+        }
+        System.out.println(String.format(Locale.ROOT, "Migrated pack format %d to %s in %.1f s", packFormat, String.join(", then ", versions), (System.nanoTime() - start) / 1e9));
+    }
+
+    // Only a body that is not a zip is the client's fault, anything failing later is the server's
+    private static void checkZip(final Slicer slicer) {
+        try {
+            slicer.checkInput();
+        } catch (final IOException e) {
+            throw new IllegalArgumentException("Body is not a pack zip: " + e.getMessage());
+        }
+    }
+
+    // Copies the body to the file, giving up once it grows beyond the upload limit
+    private boolean receive(final InputStream body, final Path file) throws IOException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        long total = 0;
+        try (final OutputStream os = Files.newOutputStream(file)) {
+            int read;
+            while ((read = body.read(buffer)) >= 0) {
+                total += read;
+                if (total > maxUploadBytes) {
+                    return false;
+                }
+                os.write(buffer, 0, read);
+            }
+        }
+        return true;
+    }
+
+    private static OptionalInt number(final Map<String, String> query, final String name, final int min, final int max) {
+        final String value = query.get(name);
+        return value != null ? OptionalInt.of(Slicer.parseNumber(value, name, min, max)) : OptionalInt.empty();
+    }
+
+    private static Map<String, String> query(final @Nullable String rawQuery) {
+        final Map<String, String> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (final String parameter : rawQuery.split("&")) {
+            final int separator = parameter.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing value for " + parameter);
+            }
+            query.put(URLDecoder.decode(parameter.substring(0, separator), StandardCharsets.UTF_8), URLDecoder.decode(parameter.substring(separator + 1), StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static void respond(final HttpExchange exchange, final int status, final @Nullable String message) throws IOException {
+        final byte[] body = ((message != null ? message : "") + "\n").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (final OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+        }
+    }
+
+    // Leaves ending the response to the exchange, closing it from the zip only flushes what was written
+    private static final class ResponseBody extends FilterOutputStream {
+        private ResponseBody(final OutputStream body) {
+            super(body);
+        }
+
+        @Override
+        public void write(final byte[] data, final int offset, final int length) throws IOException {
+            out.write(data, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
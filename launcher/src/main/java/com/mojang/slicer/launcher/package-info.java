@@ -0,0 +1,4 @@
+@NullMarked
+package com.mojang.slicer.launcher;
+
+import org.jspecify.annotations.NullMarked;
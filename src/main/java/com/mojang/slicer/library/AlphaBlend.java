@@ -0,0 +1,66 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+// Source over compositing of non-premultiplied ARGB pixels, rounded with the same 8-bit tables Java2D uses so the
+// result matches Graphics2D.drawImage bit for bit, including the colour of pixels that end up fully transparent
+final class AlphaBlend {
+    private static final byte[] MUL = new byte[256 * 256];
+    private static final byte[] DIV = new byte[256 * 256];
+
+    static {
+        for (int i = 1; i < 256; i++) {
+            final long inc = (i << 16) + (i << 8) + i;
+            long value = inc + (1 << 23);
+            for (int j = 1; j < 256; j++) {
+                MUL[i << 8 | j] = (byte) (value >>> 24);
+                value += inc;
+            }
+        }
+        for (int i = 1; i < 256; i++) {
+            final long inc = ((0xffL << 24) + i / 2) / i;
+            long value = 1 << 23;
+            for (int j = 0; j < 256; j++) {
+                DIV[i << 8 | j] = j < i ? (byte) (value >>> 24) : (byte) 0xff;
+                value += inc;
+            }
+        }
+    }
+
+    private AlphaBlend() {
+    }
+
+    static int over(final int source, final int target) {
+        final int alpha = source >>> 24;
+        if (alpha == 0xff) {
+            return source;
+        } else if (alpha == 0) {
+            return target;
+        }
+        int red = mul(alpha, source >> 16 & 0xff);
+        int green = mul(alpha, source >> 8 & 0xff);
+        int blue = mul(alpha, source & 0xff);
+        final int targetAlpha = mul(0xff - alpha, target >>> 24);
+        final int resultAlpha = alpha + targetAlpha;
+        if (targetAlpha != 0) {
+            red += mul(targetAlpha, target >> 16 & 0xff);
+            green += mul(targetAlpha, target >> 8 & 0xff);
+            blue += mul(targetAlpha, target & 0xff);
+        }
+        if (resultAlpha < 0xff) {
+            red = div(red, resultAlpha);
+            green = div(green, resultAlpha);
+            blue = div(blue, resultAlpha);
+        }
+        return resultAlpha << 24 | red << 16 | green << 8 | blue;
+    }
+
+    private static int mul(final int a, final int b) {
+        return MUL[a << 8 | b] & 0xff;
+    }
+
+    private static int div(final int value, final int alpha) {
+        return DIV[alpha << 8 | value] & 0xff;
+    }
+}
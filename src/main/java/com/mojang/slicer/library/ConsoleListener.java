@@ -0,0 +1,96 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import java.util.Locale;
+
+// Prints errors as they happen and a progress line every few seconds, or every written file when verbose
+public final class ConsoleListener implements SlicerListener {
+    private static final long PROGRESS_INTERVAL_NANOS = 2_000_000_000L;
+
+    private final Verbosity verbosity;
+    private final long start = System.nanoTime();
+    private long lastProgress = start;
+    private int inputCount;
+    private int finishedInputs;
+    private int skippedInputs;
+    private int writtenFiles;
+    private int unchangedFiles;
+
+    public enum Verbosity {
+        QUIET,
+        NORMAL,
+        VERBOSE
+    }
+
+    public ConsoleListener(final Verbosity verbosity) {
+        this.verbosity = verbosity;
+    }
+
+    @Override
+    public synchronized void started(final int inputCount) {
+        this.inputCount = inputCount;
+    }
+
+    @Override
+    public synchronized void written(final String description) {
+        writtenFiles++;
+        if (verbosity == Verbosity.VERBOSE) {
+            System.out.println(description);
+        }
+    }
+
+    @Override
+    public synchronized void unchanged(final String description) {
+        unchangedFiles++;
+        if (verbosity == Verbosity.VERBOSE) {
+            System.out.println(description + " (unchanged)");
+        }
+    }
+
+    @Override
+    public synchronized void inputFinished(final String path) {
+        finishedInputs++;
+        progress();
+    }
+
+    @Override
+    public synchronized void inputSkipped(final String path) {
+        finishedInputs++;
+        skippedInputs++;
+        progress();
+    }
+
+    @Override
+    public synchronized void info(final String message) {
+        if (verbosity != Verbosity.QUIET) {
+            System.out.println(message);
+        }
+    }
+
+    @Override
+    public synchronized void error(final String message) {
+        System.err.println(message);
+    }
+
+    @Override
+    public synchronized void finished() {
+        if (verbosity == Verbosity.QUIET) {
+            return;
+        }
+        final String skipped = skippedInputs > 0 ? " (" + skippedInputs + " unchanged, skipped)" : "";
+        final String unchanged = unchangedFiles > 0 ? " (" + unchangedFiles + " more already up to date)" : "";
+        System.out.println("Processed " + finishedInputs + " input files" + skipped + ", wrote " + writtenFiles + " files" + unchanged + " in "
+            + String.format(Locale.ROOT, "%.1f s", (System.nanoTime() - start) / 1e9));
+    }
+
+    private void progress() {
+        final long now = System.nanoTime();
+        if (verbosity != Verbosity.NORMAL || now - lastProgress < PROGRESS_INTERVAL_NANOS) {
+            return;
+        }
+        lastProgress = now;
+        System.out.println("Processed " + finishedInputs + " of " + inputCount + " input files, wrote " + writtenFiles + " files");
+    }
+}
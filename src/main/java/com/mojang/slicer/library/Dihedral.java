@@ -0,0 +1,84 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+// The lossless right-angle rotations and mirrors. Each is a flip of x and/or y followed by an optional transpose,
+// so any chain of them collapses into a single one and is applied as one pass over the pixels
+public enum Dihedral implements Transform {
+    IDENTITY(false, false, false),
+    MIRROR_HORIZONTALLY(true, false, false),
+    MIRROR_VERTICALLY(false, true, false),
+    ROTATE_180(true, true, false),
+    TRANSPOSE(false, false, true),
+    ROTATE_90(false, true, true),
+    ROTATE_270(true, false, true),
+    TRANSVERSE(true, true, true);
+
+    private static final Dihedral[] VALUES = values();
+
+    private final boolean flipX;
+    private final boolean flipY;
+    private final boolean transpose;
+
+    Dihedral(final boolean flipX, final boolean flipY, final boolean transpose) {
+        this.flipX = flipX;
+        this.flipY = flipY;
+        this.transpose = transpose;
+    }
+
+    private static Dihedral of(final boolean flipX, final boolean flipY, final boolean transpose) {
+        for (final Dihedral dihedral : VALUES) {
+            if (dihedral.flipX == flipX && dihedral.flipY == flipY && dihedral.transpose == transpose) {
+                return dihedral;
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    // The single operation equivalent to applying this one and then the next
+    public Dihedral then(final Dihedral next) {
+        if (transpose) {
+            // The next flips act on the swapped axes
+            return of(flipX ^ next.flipY, flipY ^ next.flipX, !next.transpose);
+        }
+        return of(flipX ^ next.flipX, flipY ^ next.flipY, next.transpose);
+    }
+
+    public boolean swapsAxes() {
+        return transpose;
+    }
+
+    boolean flipsX() {
+        return flipX;
+    }
+
+    boolean flipsY() {
+        return flipY;
+    }
+
+    // Copies a source rectangle in this orientation into an ARGB int[], starting at the target's top left pixel. With
+    // blend the pixels are composited over what the target holds instead of replacing it
+    void copy(final Pixels source, final int sourceX, final int sourceY, final int width, final int height, final int[] target, final int targetOffset, final int targetStride, final boolean blend) {
+        final int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            source.row(sourceX, sourceY + y, row, 0, width);
+            final int rowY = flipY ? height - 1 - y : y;
+            if (transpose) {
+                // Source row becomes a target column
+                for (int x = 0; x < width; x++) {
+                    final int index = targetOffset + (flipX ? width - 1 - x : x) * targetStride + rowY;
+                    target[index] = blend ? AlphaBlend.over(row[x], target[index]) : row[x];
+                }
+            } else if (flipX || blend) {
+                final int rowStart = targetOffset + rowY * targetStride;
+                for (int x = 0; x < width; x++) {
+                    final int index = rowStart + (flipX ? width - 1 - x : x);
+                    target[index] = blend ? AlphaBlend.over(row[x], target[index]) : row[x];
+                }
+            } else {
+                System.arraycopy(row, 0, target, targetOffset + rowY * targetStride, width);
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+final class DirectoryOutput implements PackOutput {
+    private final Path root;
+
+    DirectoryOutput(final Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public String describe(final String path) {
+        return root.resolve(path).toAbsolutePath().toString();
+    }
+
+    @Override
+    public boolean write(final String path, final byte[] data, final boolean compressed) throws IOException {
+        final Path target = root.resolve(path);
+        // A file that already has these contents keeps its modification time, so nothing downstream sees it as changed
+        if (Files.isRegularFile(target) && Files.size(target) == data.length && Arrays.equals(Files.readAllBytes(target), data)) {
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        Files.deleteIfExists(target);
+        Files.write(target, data);
+        return true;
+    }
+
+    @Override
+    public boolean copy(final Path source, final String path, final boolean compressed) throws IOException {
+        final Path target = root.resolve(path);
+        if (Files.isRegularFile(target) && Files.size(target) == Files.size(source) && Files.mismatch(source, target) == -1) {
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+        return true;
+    }
+
+    @Override
+    public boolean exists(final String path) {
+        return Files.exists(root.resolve(path));
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,78 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// PNGs encoded during a run, keyed by a hash of their pixels, so outputs that come out identical (the same part cut for
+// many colours or wood types) are only encoded once. The least recently used are dropped past MAX_BYTES
+final class EncodedImages {
+    private static final long MAX_BYTES = 64L << 20;
+
+    private final PngWriter png;
+    private final Map<Key, byte[]> encoded = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    // The encoding only depends on the ARGB value of every pixel, not on how the image stores them
+    private record Key(int width, int height, ByteBuffer digest) {
+    }
+
+    EncodedImages(final PngWriter png) {
+        this.png = png;
+    }
+
+    // The returned array may be handed out again, and must not be changed
+    byte[] encode(final BufferedImage image) throws IOException {
+        final Key key = key(image);
+        synchronized (this) {
+            final byte[] cached = encoded.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final byte[] data = png.encode(image);
+        if (data.length <= MAX_BYTES) {
+            add(key, data);
+        }
+        return data;
+    }
+
+    private synchronized void add(final Key key, final byte[] data) {
+        final byte[] previous = encoded.put(key, data);
+        bytes += data.length - (previous != null ? previous.length : 0);
+        final Iterator<byte[]> eldest = encoded.values().iterator();
+        while (bytes > MAX_BYTES && eldest.hasNext()) {
+            bytes -= eldest.next().length;
+            eldest.remove();
+        }
+    }
+
+    private static Key key(final BufferedImage image) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final Pixels pixels = Pixels.of(image);
+        final int[] argb = new int[width];
+        final ByteBuffer row = ByteBuffer.allocate(width * 4);
+        for (int y = 0; y < height; y++) {
+            pixels.row(y, argb);
+            row.clear();
+            row.asIntBuffer().put(argb);
+            digest.update(row.array());
+        }
+        return new Key(width, height, ByteBuffer.wrap(digest.digest()));
+    }
+}
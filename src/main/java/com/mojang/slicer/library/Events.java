@@ -0,0 +1,103 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import org.jspecify.annotations.Nullable;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Flight Recorder events for each stage of the pipeline. Fields are only filled in once shouldCommit() says a recording
+// wants the event, and without one the JIT reduces begin/end/commit to nothing
+final class Events {
+    private static final String CATEGORY = "Slicer";
+
+    private Events() {
+    }
+
+    @Name("com.mojang.slicer.Decode")
+    @Label("Decode Input")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class Decode extends Event {
+        @Label("Input Path")
+        @Nullable String inputPath;
+        @Label("Width")
+        int width;
+        @Label("Height")
+        int height;
+        @Label("Size")
+        @DataAmount
+        long bytes;
+    }
+
+    // Cutting the source region out of the input and running the output's transforms on it
+    @Name("com.mojang.slicer.Slice")
+    @Label("Slice Output")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class Slice extends Event {
+        @Label("Input Path")
+        @Nullable String inputPath;
+        @Label("Output Path")
+        @Nullable String outputPath;
+        @Label("Input Width")
+        int inputWidth;
+        @Label("Input Height")
+        int inputHeight;
+        @Label("Width")
+        int width;
+        @Label("Height")
+        int height;
+    }
+
+    @Name("com.mojang.slicer.Encode")
+    @Label("Encode Output")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class Encode extends Event {
+        @Label("Output Path")
+        @Nullable String outputPath;
+        @Label("Width")
+        int width;
+        @Label("Height")
+        int height;
+        @Label("Size")
+        @DataAmount
+        long bytes;
+    }
+
+    @Name("com.mojang.slicer.Write")
+    @Label("Write Output")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class Write extends Event {
+        @Label("Output Path")
+        @Nullable String outputPath;
+        @Label("Size")
+        @DataAmount
+        long bytes;
+        @Label("Copied")
+        boolean copied;
+        @Label("Unchanged")
+        boolean unchanged;
+    }
+
+    @Name("com.mojang.slicer.Metadata")
+    @Label("Write Metadata")
+    @Category(CATEGORY)
+    @StackTrace(false)
+    static final class Metadata extends Event {
+        @Label("Input Path")
+        @Nullable String inputPath;
+        @Label("Output Path")
+        @Nullable String outputPath;
+        @Label("Copied")
+        boolean copied;
+    }
+}
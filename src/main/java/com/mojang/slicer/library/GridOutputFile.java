@@ -0,0 +1,146 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import org.jspecify.annotations.Nullable;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// An atlas of equally sized cells, each written to its own file in a directory. The cells are cut in one pass over the
+// rows of the atlas and then transformed and encoded in parallel, instead of cropping the atlas once per cell
+public class GridOutputFile extends OutputFile {
+    private final Box origin;
+    private final List<Cell> cells = new ArrayList<>();
+
+    private record Cell(String path, Box box) {
+    }
+
+    private record Cut(Cell cell, BufferedImage image) {
+    }
+
+    // origin is the box of the cell in the top left corner, every other cell is offset from it by whole cells
+    public GridOutputFile(final String directory, final Box origin) {
+        super(directory);
+        this.origin = origin;
+    }
+
+    // Names the cells of a row, counted from the origin, starting at its first column. A null name skips that cell
+    public GridOutputFile row(final int row, final @Nullable String... names) {
+        for (int column = 0; column < names.length; column++) {
+            final String name = names[column];
+            if (name != null) {
+                final Box box = new Box(origin.x() + column * origin.w(), origin.y() + row * origin.h(), origin.w(), origin.h(), origin.totalW(), origin.totalH());
+                cells.add(new Cell(path + "/" + name + ".png", box));
+            }
+        }
+        return this;
+    }
+
+    @Override
+    List<String> paths() {
+        return cells.stream().map(Cell::path).toList();
+    }
+
+    // Every cell is measured as an output of its own
+    @Override
+    boolean measuredAsOne() {
+        return false;
+    }
+
+    @Override
+    Box sourceBox() {
+        return origin;
+    }
+
+    @Override
+    @Nullable Rectangle sourceRegion(final int width, final int height) {
+        Rectangle region = null;
+        for (final Cell cell : cells) {
+            final Rectangle cellRegion = bounds(cell.box(), width, height);
+            region = region != null ? region.union(cellRegion) : cellRegion;
+        }
+        return region;
+    }
+
+    @Override
+    @Nullable Dimension plannedSize(final int width, final int height) {
+        Dimension size = null;
+        for (final Cell cell : cells) {
+            final Rectangle bounds = bounds(cell.box(), width, height);
+            size = TransformPlan.size(width, height, bounds.x, bounds.y, bounds.width, bounds.height, transformers);
+        }
+        return size;
+    }
+
+    @Override
+    public void process(final ProcessContext context, final Path imagePath, final BufferedImage image, final Leftover leftover) throws IOException {
+        processRegion(context, imagePath, ImageRegion.whole(image), leftover);
+    }
+
+    @Override
+    void processRegion(final ProcessContext context, final Path imagePath, final ImageRegion image, final Leftover leftover) throws IOException {
+        final Events.Slice event = new Events.Slice();
+        event.begin();
+        final List<Cut> cuts = cut(image);
+        event.end();
+        if (!cuts.isEmpty()) {
+            commitSlice(event, imagePath, image, cuts.get(0).image());
+        }
+
+        context.forEach(cuts, (cellContext, cut) -> cellContext.measure(RunReport.Kind.OUTPUT, cut.cell().path(), measured -> {
+            final BufferedImage outputImage = transformers.isEmpty() ? cut.image() : TransformPlan.apply(cut.image(), transformers);
+            measured.writeImage(cut.cell().path(), outputImage);
+            writeMetadata(measured, imagePath, cut.cell().path());
+        }));
+
+        for (final Cell cell : cells) {
+            final Rectangle bounds = bounds(cell.box(), image.width(), image.height());
+            leftover.markRemoved(bounds.x, bounds.y, bounds.width, bounds.height);
+        }
+    }
+
+    // Copies every row of the atlas into the cells it crosses, so each source row is read once whatever the cell count
+    private List<Cut> cut(final ImageRegion image) {
+        final int width = image.width();
+        final int height = image.height();
+        final List<Cut> cuts = new ArrayList<>(cells.size());
+        final List<Rectangle> bounds = new ArrayList<>(cells.size());
+        int top = Integer.MAX_VALUE;
+        int bottom = Integer.MIN_VALUE;
+        for (final Cell cell : cells) {
+            final Rectangle cellBounds = bounds(cell.box(), width, height);
+            // Fails for cells outside of the image the same way cropping them one at a time does
+            TransformPlan.size(width, height, cellBounds.x, cellBounds.y, cellBounds.width, cellBounds.height, List.of());
+            cuts.add(new Cut(cell, new BufferedImage(cellBounds.width, cellBounds.height, BufferedImage.TYPE_INT_ARGB)));
+            bounds.add(cellBounds);
+            top = Math.min(top, cellBounds.y);
+            bottom = Math.max(bottom, cellBounds.y + cellBounds.height);
+        }
+
+        final Pixels source = Pixels.of(image.pixels());
+        final int[][] targets = new int[cuts.size()][];
+        for (int i = 0; i < cuts.size(); i++) {
+            targets[i] = Pixels.argbData(cuts.get(i).image());
+        }
+        for (int y = top; y < bottom; y++) {
+            for (int i = 0; i < cuts.size(); i++) {
+                final Rectangle cellBounds = bounds.get(i);
+                if (y >= cellBounds.y && y < cellBounds.y + cellBounds.height) {
+                    source.row(cellBounds.x - image.x(), y - image.y(), targets[i], (y - cellBounds.y) * cellBounds.width, cellBounds.width);
+                }
+            }
+        }
+        return cuts;
+    }
+
+    private static Rectangle bounds(final Box box, final int width, final int height) {
+        return new Rectangle(box.scaleX(width), box.scaleY(height), box.scaleW(width), box.scaleH(height));
+    }
+}
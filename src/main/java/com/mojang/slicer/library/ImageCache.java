@@ -0,0 +1,153 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import org.jspecify.annotations.Nullable;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Dimension;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+final class ImageCache {
+    private static final int PNG_HEADER_BYTES = 33;
+
+    private final Map<Path, Integer> references;
+    private final Map<Path, BufferedImage> images = new HashMap<>();
+
+    ImageCache(final Map<Path, Integer> references) {
+        this.references = new HashMap<>(references);
+    }
+
+    BufferedImage acquire(final Path path) throws IOException {
+        synchronized (this) {
+            final BufferedImage cached = images.get(path);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        final BufferedImage image = read(path);
+        synchronized (this) {
+            // Only keep images that will be requested again; released in release() once the last user is done
+            if (references.getOrDefault(path, 0) > 1) {
+                final BufferedImage cached = images.putIfAbsent(path, image);
+                return cached != null ? cached : image;
+            }
+        }
+        return image;
+    }
+
+    // Decodes no more of the image than the region needed asks for given the image size. Images read by more than one
+    // input are decoded whole, as they are kept around for the others
+    ImageRegion acquire(final Path path, final Function<Dimension, @Nullable Rectangle> needed) throws IOException {
+        final boolean shared;
+        synchronized (this) {
+            shared = images.containsKey(path) || references.getOrDefault(path, 0) > 1;
+        }
+        return shared ? ImageRegion.whole(acquire(path)) : read(path, needed);
+    }
+
+    synchronized void release(final Path path) {
+        final Integer remaining = references.computeIfPresent(path, (key, count) -> count > 1 ? count - 1 : null);
+        if (remaining == null) {
+            images.remove(path);
+        }
+    }
+
+    // Width and height without decoding the pixels
+    static Dimension size(final Path path) throws IOException {
+        final byte[] start;
+        try (final InputStream input = Files.newInputStream(path)) {
+            start = input.readNBytes(PNG_HEADER_BYTES);
+        }
+        if (PngReader.isPng(ByteBuffer.wrap(start))) {
+            final PngReader.Header header = PngReader.header(ByteBuffer.wrap(start));
+            return new Dimension(header.width(), header.height());
+        }
+        try (final InputStream stream = Files.newInputStream(path)) {
+            return size(path, stream);
+        }
+    }
+
+    static Dimension size(final Path path, final ByteBuffer data) throws IOException {
+        if (PngReader.isPng(data)) {
+            final PngReader.Header header = PngReader.header(data);
+            return new Dimension(header.width(), header.height());
+        }
+        return size(path, new ByteArrayInputStream(data.array()));
+    }
+
+    private static Dimension size(final Path path, final InputStream stream) throws IOException {
+        try (final ImageInputStream input = ImageIO.createImageInputStream(stream)) {
+            final Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format: " + path.toAbsolutePath());
+            }
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(input);
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage read(final Path path) throws IOException {
+        return read(path, size -> null).pixels();
+    }
+
+    private static ImageRegion read(final Path path, final Function<Dimension, @Nullable Rectangle> needed) throws IOException {
+        final Events.Decode event = new Events.Decode();
+        event.begin();
+        final byte[] data = Files.readAllBytes(path);
+        final ImageRegion image = decode(path, ByteBuffer.wrap(data), needed);
+        event.end();
+        if (event.shouldCommit()) {
+            event.inputPath = path.toString();
+            event.width = image.pixels().getWidth();
+            event.height = image.pixels().getHeight();
+            event.bytes = data.length;
+            event.commit();
+        }
+        return image;
+    }
+
+    static ImageRegion decode(final Path path, final ByteBuffer buffer, final Function<Dimension, @Nullable Rectangle> needed) throws IOException {
+        if (PngReader.isPng(buffer)) {
+            final PngReader.Header header = PngReader.header(buffer);
+            final Rectangle region = needed.apply(new Dimension(header.width(), header.height()));
+            if (region != null) {
+                return new ImageRegion(PngReader.read(buffer, region), region.x, region.y, header.width(), header.height());
+            }
+        }
+        return ImageRegion.whole(decode(path, buffer));
+    }
+
+    static BufferedImage decode(final Path path, final ByteBuffer buffer) throws IOException {
+        if (PngReader.isPng(buffer)) {
+            return PngReader.read(buffer);
+        }
+        // Not a PNG despite the name, let ImageIO figure it out
+        final BufferedImage image = ImageIO.read(new ByteArrayInputStream(buffer.array()));
+        if (image == null) {
+            throw new IOException("Unsupported image format: " + path.toAbsolutePath());
+        }
+        return image;
+    }
+}
@@ -0,0 +1,18 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import java.awt.image.BufferedImage;
+
+// The decoded part of an input image: pixels holds the region at x, y of an image that is width by height in full.
+// Outputs work in the coordinates of the full image and subtract x, y to find their pixels
+record ImageRegion(BufferedImage pixels, int x, int y, int width, int height) {
+    static ImageRegion whole(final BufferedImage image) {
+        return new ImageRegion(image, 0, 0, image.getWidth(), image.getHeight());
+    }
+
+    boolean isWhole() {
+        return x == 0 && y == 0 && pixels.getWidth() == width && pixels.getHeight() == height;
+    }
+}
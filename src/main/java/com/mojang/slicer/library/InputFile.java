@@ -2,14 +2,12 @@
 // Licensed under the MIT license.
 
 package com.mojang.slicer.library;
+
 import org.jspecify.annotations.Nullable;
 
-import javax.imageio.ImageIO;
-import java.awt.Graphics2D;
-import java.awt.image.BufferedImage;
+import java.awt.Dimension;
+import java.awt.Rectangle;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -23,33 +21,81 @@ public class InputFile {
         this.path = path;
     }
 
+    String path() {
+        return path;
+    }
+
+    List<OutputFile> outputs() {
+        return outputs;
+    }
+
+    List<String> outputPaths() {
+        return outputs.stream().flatMap(output -> output.paths().stream()).toList();
+    }
+
+    @Nullable Box sourceBox() {
+        for (final OutputFile output : outputs) {
+            final Box box = output.sourceBox();
+            if (box != null) {
+                return box;
+            }
+        }
+        return null;
+    }
+
+    // Smallest rectangle holding every pixel the outputs read, null when that is the whole image or can't be known
+    private @Nullable Rectangle neededRegion(final Dimension size) {
+        final Rectangle bounds = new Rectangle(size);
+        Rectangle region = null;
+        for (final OutputFile output : outputs) {
+            final Rectangle outputRegion = output.sourceRegion(size.width, size.height);
+            if (outputRegion == null || outputRegion.isEmpty()) {
+                return null;
+            }
+            region = region != null ? region.union(outputRegion) : outputRegion;
+        }
+        // Boxes outside of the image fail the same way they always did when cropping from the whole image
+        return region != null && bounds.contains(region) && !region.equals(bounds) ? region : null;
+    }
+
     public InputFile outputs(final OutputFile... files) {
         Collections.addAll(outputs, files);
         return this;
     }
 
-    public void process(final Path inputRoot, final Path outputRoot, final @Nullable Path leftoverRoot) throws IOException {
-        final Path inputPath = inputRoot.resolve(this.path);
-        if (Files.exists(inputPath)) {
-            try (final InputStream is = Files.newInputStream(inputPath)) {
-                final BufferedImage image = ImageIO.read(is);
-                final BufferedImage leftoverImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
-                final Graphics2D leftoverGraphics = leftoverImage.createGraphics();
-                leftoverGraphics.drawImage(image, 0, 0, null);
+    public void process(final ProcessContext context) throws IOException {
+        context.measure(RunReport.Kind.INPUT, path, this::processMeasured);
+    }
 
-                for (final OutputFile outputFile : outputs) {
-                    outputFile.process(outputRoot, inputPath, image, leftoverGraphics);
-                }
+    private void processMeasured(final ProcessContext context) throws IOException {
+        final Path inputPath = context.resolve(this.path);
+        if (!context.exists(inputPath)) {
+            context.error("Input file " + inputPath.toAbsolutePath() + " not found, skipping!");
+        } else if (!context.tracksLeftover() && outputs.stream().allMatch(OutputFile::copiesInput)) {
+            context.releaseImage(inputPath);
+            context.forEach(outputs, (outputContext, outputFile) -> measure(outputContext, outputFile, measured -> outputFile.copyInput(measured, inputPath)));
+        } else {
+            // Leftover needs every pixel, otherwise only what the outputs read is decoded
+            final ImageRegion image = context.readImage(inputPath, context.tracksLeftover() ? size -> null : this::neededRegion);
+            try {
+                final Leftover leftover = new Leftover(image.width(), image.height());
 
-                leftoverGraphics.dispose();
+                context.forEach(outputs, (outputContext, outputFile) -> measure(outputContext, outputFile, measured -> outputFile.processRegion(measured, inputPath, image, leftover)));
 
-                if (leftoverRoot != null) {
-                    final Path leftoverPath = leftoverRoot.resolve(this.path);
-                    Slicer.writeImage(leftoverPath, leftoverImage);
+                if (context.tracksLeftover()) {
+                    context.writeLeftover(this.path, image.pixels(), leftover);
                 }
+            } finally {
+                context.releaseImage(inputPath);
             }
+        }
+    }
+
+    private static void measure(final ProcessContext context, final OutputFile outputFile, final ProcessContext.Step step) throws IOException {
+        if (outputFile.measuredAsOne()) {
+            context.measure(RunReport.Kind.OUTPUT, outputFile.path, step);
         } else {
-            System.err.println("Input file " + inputPath.toAbsolutePath() + " not found, skipping!");
+            step.run(context);
         }
     }
 }
@@ -0,0 +1,79 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import org.jspecify.annotations.Nullable;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+// The input pack with the outputs of earlier stages laid over it, the first layer holding a file wins
+record InputTree(Path root, List<MemoryOutput> layers) {
+    InputTree(final Path root) {
+        this(root, List.of());
+    }
+
+    Path resolve(final String path) {
+        for (final MemoryOutput layer : layers) {
+            if (layer.exists(path)) {
+                return layer.resolve(path);
+            }
+        }
+        return root.resolve(path);
+    }
+
+    // The in-memory file a resolved path points at, null for files of the input pack
+    MemoryOutput.@Nullable Entry entry(final Path path) {
+        for (final MemoryOutput layer : layers) {
+            final MemoryOutput.Entry entry = layer.entry(path);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    // Memory the earlier stages hold on to for the stages after them
+    long retainedBytes() {
+        return layers.stream().mapToLong(MemoryOutput::retainedBytes).sum();
+    }
+
+    boolean exists(final Path path) {
+        return entry(path) != null || Files.exists(path);
+    }
+
+    // Size of the file, which is 0 for an image an earlier stage left decoded or only planned
+    long bytes(final Path path) throws IOException {
+        final MemoryOutput.Entry entry = entry(path);
+        if (entry == null) {
+            return Files.size(path);
+        }
+        final byte[] data = entry.data();
+        return data != null ? data.length : 0;
+    }
+
+    // Width and height of an image without decoding it
+    Dimension size(final Path path) throws IOException {
+        final MemoryOutput.Entry entry = entry(path);
+        if (entry == null) {
+            return ImageCache.size(path);
+        }
+        final BufferedImage image = entry.image();
+        final byte[] data = entry.data();
+        final Dimension planned = entry.size();
+        if (image != null) {
+            return new Dimension(image.getWidth(), image.getHeight());
+        } else if (data != null) {
+            return ImageCache.size(path, ByteBuffer.wrap(data));
+        } else if (planned != null) {
+            return planned;
+        }
+        throw new IOException("Size of " + path + " is only known once an earlier stage wrote it");
+    }
+}
@@ -0,0 +1,127 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+
+// One bit per source pixel, set once some output has taken that pixel
+public final class Leftover {
+    private static final Color REMOVED_MARKER = new Color(128, 0, 0, 128);
+
+    private final int width;
+    private final int height;
+    private final int wordsPerRow;
+    private final long[] covered;
+
+    Leftover(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+        this.wordsPerRow = (width + 63) >>> 6;
+        this.covered = new long[wordsPerRow * height];
+    }
+
+    public synchronized void markRemoved(final int x, final int y, final int w, final int h) {
+        final int minX = Math.max(x, 0);
+        final int maxX = Math.min(x + w, width);
+        final int minY = Math.max(y, 0);
+        final int maxY = Math.min(y + h, height);
+        if (minX >= maxX) {
+            return;
+        }
+        final int firstWord = minX >>> 6;
+        final int lastWord = (maxX - 1) >>> 6;
+        final long firstMask = -1L << minX;
+        final long lastMask = -1L >>> -maxX;
+        for (int row = minY; row < maxY; row++) {
+            final int offset = row * wordsPerRow;
+            if (firstWord == lastWord) {
+                covered[offset + firstWord] |= firstMask & lastMask;
+                continue;
+            }
+            covered[offset + firstWord] |= firstMask;
+            for (int word = firstWord + 1; word < lastWord; word++) {
+                covered[offset + word] = -1L;
+            }
+            covered[offset + lastWord] |= lastMask;
+        }
+    }
+
+    private boolean isCovered(final int x, final int y) {
+        return (covered[y * wordsPerRow + (x >>> 6)] & 1L << x) != 0;
+    }
+
+    // Runs of pixels in a row that share the same coverage, starting at x
+    private int runEnd(final int x, final int y) {
+        final boolean state = isCovered(x, y);
+        int end = x + 1;
+        while (end < width && isCovered(end, y) == state) {
+            end++;
+        }
+        return end;
+    }
+
+    synchronized void paint(final BufferedImage target) {
+        final Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setColor(REMOVED_MARKER);
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; ) {
+                    final int end = runEnd(x, y);
+                    if (isCovered(x, y)) {
+                        graphics.fillRect(x, y, end - x, 1);
+                    }
+                    x = end;
+                }
+            }
+        } finally {
+            graphics.dispose();
+        }
+    }
+
+    // Uncovered pixels that are not fully transparent, merged into rectangles spanning identical runs of rows
+    synchronized List<Rectangle> uncovered(final BufferedImage image) {
+        final List<Rectangle> result = new ArrayList<>();
+        List<Rectangle> open = new ArrayList<>();
+        final int[] argb = new int[width];
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, argb, 0, width);
+            final List<Rectangle> next = new ArrayList<>();
+            int x = 0;
+            while (x < width) {
+                if (isCovered(x, y) || argb[x] >>> 24 == 0) {
+                    x++;
+                    continue;
+                }
+                final int start = x;
+                while (x < width && !isCovered(x, y) && argb[x] >>> 24 != 0) {
+                    x++;
+                }
+                Rectangle span = null;
+                for (final Rectangle rectangle : open) {
+                    if (rectangle.x == start && rectangle.width == x - start) {
+                        span = rectangle;
+                        break;
+                    }
+                }
+                if (span != null) {
+                    open.remove(span);
+                    span.height++;
+                } else {
+                    span = new Rectangle(start, y, x - start, 1);
+                }
+                next.add(span);
+            }
+            result.addAll(open);
+            open = next;
+        }
+        result.addAll(open);
+        result.sort((a, b) -> a.y != b.y ? Integer.compare(a.y, b.y) : Integer.compare(a.x, b.x));
+        return result;
+    }
+}
@@ -0,0 +1,51 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import java.awt.Rectangle;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// JSON listing of the parts of every input image that no output took, for checking what still needs manual migration
+final class LeftoverReport {
+    private final Map<String, Entry> entries = new TreeMap<>();
+
+    private record Entry(int width, int height, List<Rectangle> uncovered) {
+    }
+
+    synchronized void add(final String path, final int width, final int height, final List<Rectangle> uncovered) {
+        entries.put(path, new Entry(width, height, uncovered));
+    }
+
+    synchronized void write(final Path file) throws IOException {
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (final BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("{\n  \"inputs\": [");
+            boolean firstEntry = true;
+            for (final Map.Entry<String, Entry> entry : entries.entrySet()) {
+                final Entry value = entry.getValue();
+                writer.write(firstEntry ? "\n" : ",\n");
+                writer.write("    {\"path\": " + Json.quote(entry.getKey()) + ", \"width\": " + value.width() + ", \"height\": " + value.height() + ", \"uncovered\": [");
+                boolean firstRegion = true;
+                for (final Rectangle region : value.uncovered()) {
+                    writer.write(firstRegion ? "\n" : ",\n");
+                    writer.write("      {\"x\": " + region.x + ", \"y\": " + region.y + ", \"width\": " + region.width + ", \"height\": " + region.height + "}");
+                    firstRegion = false;
+                }
+                writer.write(firstRegion ? "]}" : "\n    ]}");
+                firstEntry = false;
+            }
+            writer.write(firstEntry ? "]\n}\n" : "\n  ]\n}\n");
+        }
+    }
+}
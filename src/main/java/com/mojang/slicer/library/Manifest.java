@@ -0,0 +1,126 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Records the source hash and produced files of every input, so unchanged inputs can be skipped on the next run
+final class Manifest {
+    private static final String HEADER = "# slicer manifest";
+    private static final byte[] META_SEPARATOR = {0};
+
+    private final String version;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new TreeMap<>();
+
+    private Manifest(final String version, final Map<String, Entry> previous) {
+        this.version = version;
+        this.previous = previous;
+    }
+
+    private record Entry(String hash, List<String> outputs) {
+    }
+
+    static String toolVersion() {
+        final Package slicerPackage = Slicer.class.getPackage();
+        final String title = slicerPackage.getImplementationTitle();
+        final String version = slicerPackage.getImplementationVersion();
+        return (title != null ? title : "slicer") + " " + (version != null ? version : "development");
+    }
+
+    static Manifest read(final Path file, final String version) throws IOException {
+        final Map<String, Entry> entries = new HashMap<>();
+        if (Files.exists(file)) {
+            final List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+            // Anything produced by another version of the tool has to be redone
+            if (lines.size() >= 2 && lines.get(0).equals(HEADER) && lines.get(1).equals("version\t" + version)) {
+                for (final String line : lines.subList(2, lines.size())) {
+                    final String[] fields = line.split("\t");
+                    if (fields.length >= 3 && fields[0].equals("input")) {
+                        entries.put(fields[1], new Entry(fields[2], List.of(Arrays.copyOfRange(fields, 3, fields.length))));
+                    }
+                }
+            }
+        }
+        return new Manifest(version, entries);
+    }
+
+    static @Nullable String hash(final Path inputPath) throws IOException {
+        if (!Files.exists(inputPath)) {
+            return null;
+        }
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        digest.update(Files.readAllBytes(inputPath));
+        final Path metaPath = inputPath.resolveSibling(inputPath.getFileName().toString() + ".mcmeta");
+        if (Files.exists(metaPath)) {
+            digest.update(META_SEPARATOR);
+            digest.update(Files.readAllBytes(metaPath));
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    boolean isUpToDate(final String input, final @Nullable String hash, final Collection<String> expectedOutputs, final PackOutput output) {
+        final Entry entry = previous.get(input);
+        if (hash == null || entry == null || !entry.hash().equals(hash) || !entry.outputs().containsAll(expectedOutputs)) {
+            return false;
+        }
+        for (final String path : entry.outputs()) {
+            if (!output.exists(path)) {
+                return false;
+            }
+        }
+        synchronized (current) {
+            current.put(input, entry);
+        }
+        return true;
+    }
+
+    void record(final String input, final String hash, final Collection<String> outputs) {
+        synchronized (current) {
+            current.put(input, new Entry(hash, outputs.stream().sorted().distinct().toList()));
+        }
+    }
+
+    void write(final Path file) throws IOException {
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (final BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write(HEADER);
+            writer.newLine();
+            writer.write("version\t" + version);
+            writer.newLine();
+            synchronized (current) {
+                for (final Map.Entry<String, Entry> entry : current.entrySet()) {
+                    writer.write("input\t" + entry.getKey() + "\t" + entry.getValue().hash());
+                    for (final String output : entry.getValue().outputs()) {
+                        writer.write("\t" + output);
+                    }
+                    writer.newLine();
+                }
+            }
+        }
+    }
+}
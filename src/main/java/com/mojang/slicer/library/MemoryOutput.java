@@ -0,0 +1,151 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import org.jspecify.annotations.Nullable;
+
+import java.awt.Dimension;
+import java.awt.image.BufferedImage;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// What one stage of a chained run wrote, held in memory for the stages after it. Images are kept decoded, so they are
+// only encoded once they reach the real output
+final class MemoryOutput implements PackOutput {
+    private static final AtomicInteger STAGES = new AtomicInteger();
+
+    // Files of this output are addressed by paths below a root that doesn't exist on disk
+    private final Path root = Path.of("/slicer-stage-" + STAGES.incrementAndGet()).toAbsolutePath();
+    private final @Nullable PackOutput target;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicLong retained = new AtomicLong();
+    // The run report items that wrote each file, which are charged for encoding and writing it out at the end
+    private final Map<String, RunReport.Item> producers = new ConcurrentHashMap<>();
+
+    // Either the decoded image or the bytes of the file. When planning a run, neither and only the size the image will
+    // have, if that is known
+    record Entry(@Nullable BufferedImage image, byte @Nullable [] data, boolean compressed, @Nullable Dimension size) {
+        long bytes() {
+            if (image != null) {
+                return (long) image.getWidth() * image.getHeight() * 4;
+            }
+            return data != null ? data.length : 0;
+        }
+    }
+
+    MemoryOutput(final PackOutput target) {
+        this.target = target;
+    }
+
+    // Holds only what a plan says a stage writes, for planning the stages after it
+    private MemoryOutput() {
+        this.target = null;
+    }
+
+    static MemoryOutput planned(final MigrationPlan plan) {
+        final MemoryOutput planned = new MemoryOutput();
+        for (final MigrationPlan.Input input : plan.inputs()) {
+            for (final MigrationPlan.Output output : input.outputs()) {
+                final Dimension size = output.width() >= 0 ? new Dimension(output.width(), output.height()) : null;
+                planned.entries.put(output.path(), new Entry(null, null, true, size));
+            }
+        }
+        return planned;
+    }
+
+    // Where the file will end up once the run is done
+    @Override
+    public String describe(final String path) {
+        return target != null ? target.describe(path) : path;
+    }
+
+    void writeImage(final String path, final BufferedImage image) {
+        put(path, new Entry(own(image), null, true, null));
+    }
+
+    void put(final String path, final Entry entry) {
+        final Entry previous = entries.put(path, entry);
+        retained.addAndGet(entry.bytes() - (previous != null ? previous.bytes() : 0));
+    }
+
+    @Override
+    public boolean write(final String path, final byte[] data, final boolean compressed) {
+        put(path, new Entry(null, data, compressed, null));
+        return true;
+    }
+
+    @Override
+    public boolean copy(final Path source, final String path, final boolean compressed) throws IOException {
+        put(path, new Entry(null, Files.readAllBytes(source), compressed, null));
+        return true;
+    }
+
+    void produced(final String path, final RunReport.Item item) {
+        producers.put(path, item);
+    }
+
+    RunReport.@Nullable Item producer(final String path) {
+        return producers.get(path);
+    }
+
+    // Memory held by the files of this output until the run is done
+    long retainedBytes() {
+        return retained.get();
+    }
+
+    // A subimage shares the raster of the image it was cut from, and would keep a whole atlas alive until the end of
+    // the run. It gets a raster of its own
+    private static BufferedImage own(final BufferedImage image) {
+        final WritableRaster raster = image.getRaster();
+        if (raster.getParent() == null) {
+            return image;
+        }
+        final int width = image.getWidth();
+        final BufferedImage copy = new BufferedImage(width, image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        final Pixels pixels = Pixels.of(image);
+        final int[] data = Pixels.argbData(copy);
+        for (int y = 0; y < image.getHeight(); y++) {
+            pixels.row(0, y, data, y * width, width);
+        }
+        return copy;
+    }
+
+    @Override
+    public boolean exists(final String path) {
+        return entries.containsKey(path);
+    }
+
+    Path resolve(final String path) {
+        return root.resolve(path);
+    }
+
+    @Nullable Entry entry(final Path path) {
+        if (path.getFileSystem() != root.getFileSystem() || !path.startsWith(root)) {
+            return null;
+        }
+        return entries.get(root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/"));
+    }
+
+    // Sorted, so a zip output gets its entries in the same order on every run
+    Map<String, Entry> entries() {
+        return new TreeMap<>(entries);
+    }
+
+    void clear() {
+        entries.clear();
+        producers.clear();
+        retained.set(0);
+    }
+
+    @Override
+    public void close() {
+    }
+}
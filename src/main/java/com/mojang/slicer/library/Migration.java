@@ -0,0 +1,20 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import java.util.List;
+
+// The inputs that update a pack to one Minecraft version, so several versions can run from one launcher
+public interface Migration {
+    // The Minecraft version packs are updated to
+    String version();
+
+    // Whether a pack declaring this pack_format in its pack.mcmeta still has the layout this migration updates
+    boolean appliesTo(int packFormat);
+
+    // The pack_format of packs made for the version before this one, which generated test packs declare
+    int sourcePackFormat();
+
+    List<InputFile> inputs();
+}
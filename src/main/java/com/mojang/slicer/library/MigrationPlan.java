@@ -0,0 +1,208 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import org.jspecify.annotations.Nullable;
+
+import java.awt.Dimension;
+import java.awt.image.RasterFormatException;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// The inputs of a migration resolved against an actual pack: which files exist, how big their images are and what
+// every output will write, worked out from image headers alone
+public final class MigrationPlan {
+    // Images are held as one int per pixel once decoded
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private final List<Input> inputs;
+    private final boolean leftover;
+    private final int threads;
+
+    // Width and height are -1 when a custom transformer decides them
+    public record Output(String path, int width, int height, boolean metadata) {
+        public long rasterBytes() {
+            return width > 0 ? (long) width * height * BYTES_PER_PIXEL : 0;
+        }
+    }
+
+    public record Input(String path, boolean exists, long fileBytes, int width, int height, List<Output> outputs, List<String> problems) {
+        public long decodedBytes() {
+            return (long) width * height * BYTES_PER_PIXEL;
+        }
+
+        // The bit per pixel Leftover keeps of what the outputs covered, in whole words per row
+        public long leftoverMaskBytes() {
+            return (long) ((width + 63) >>> 6) * height * Long.BYTES;
+        }
+
+        public long outputPixels() {
+            return outputs.stream().mapToLong(output -> output.rasterBytes() / BYTES_PER_PIXEL).sum();
+        }
+    }
+
+    private MigrationPlan(final List<Input> inputs, final boolean leftover, final int threads) {
+        this.inputs = inputs;
+        this.leftover = leftover;
+        this.threads = threads;
+    }
+
+    static MigrationPlan compile(final Collection<InputFile> inputFiles, final InputTree tree, final boolean leftover, final int threads) {
+        final Map<String, List<InputFile>> inputsByPath = new LinkedHashMap<>();
+        for (final InputFile input : inputFiles) {
+            inputsByPath.computeIfAbsent(input.path(), path -> new ArrayList<>()).add(input);
+        }
+        final List<Input> inputs = new ArrayList<>(inputsByPath.size());
+        for (final Map.Entry<String, List<InputFile>> entry : inputsByPath.entrySet()) {
+            inputs.add(resolve(entry.getKey(), entry.getValue(), tree));
+        }
+        return new MigrationPlan(List.copyOf(inputs), leftover, threads);
+    }
+
+    private static Input resolve(final String path, final List<InputFile> group, final InputTree tree) {
+        final Path imagePath = tree.resolve(path);
+        if (!tree.exists(imagePath)) {
+            return new Input(path, false, 0, 0, 0, List.of(), List.of("Input file " + imagePath.toAbsolutePath() + " not found, will be skipped"));
+        }
+        final List<String> problems = new ArrayList<>();
+        long fileBytes = 0;
+        Dimension size = null;
+        try {
+            fileBytes = tree.bytes(imagePath);
+            size = tree.size(imagePath);
+        } catch (final IOException e) {
+            problems.add("Can't read " + imagePath.toAbsolutePath() + ": " + e.getMessage());
+        }
+        final List<Output> outputs = new ArrayList<>();
+        for (final InputFile input : group) {
+            for (final OutputFile output : input.outputs()) {
+                final Dimension outputSize = size != null ? plannedSize(output, size, problems) : null;
+                for (final String outputPath : output.paths()) {
+                    outputs.add(new Output(outputPath, outputSize != null ? outputSize.width : -1, outputSize != null ? outputSize.height : -1, false));
+                    if (output.writesMetadata(tree, imagePath)) {
+                        outputs.add(new Output(outputPath + ".mcmeta", 0, 0, true));
+                    }
+                }
+            }
+        }
+        return new Input(path, true, fileBytes, size != null ? size.width : 0, size != null ? size.height : 0, List.copyOf(outputs), List.copyOf(problems));
+    }
+
+    private static @Nullable Dimension plannedSize(final OutputFile output, final Dimension inputSize, final List<String> problems) {
+        try {
+            return output.plannedSize(inputSize.width, inputSize.height);
+        } catch (final RasterFormatException e) {
+            problems.add(output.path + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    public List<Input> inputs() {
+        return inputs;
+    }
+
+    public List<String> problems() {
+        return inputs.stream().flatMap(input -> input.problems().stream()).toList();
+    }
+
+    // Decoded input, its leftover mask, the copy a leftover image is painted on when those are written, and the largest
+    // output rasters that can be alive at the same time
+    public long peakBytes(final Input input) {
+        final int parallelOutputs = Math.max(1, threads);
+        final long outputs = input.outputs().stream()
+            .mapToLong(Output::rasterBytes)
+            .boxed()
+            .sorted(Comparator.reverseOrder())
+            .limit(parallelOutputs)
+            .mapToLong(Long::longValue)
+            .sum();
+        return input.decodedBytes() * (leftover ? 2 : 1) + input.leftoverMaskBytes() + outputs;
+    }
+
+    // With threads, that many of the heaviest inputs can be in flight at once
+    public long peakBytes() {
+        return inputs.stream()
+            .map(this::peakBytes)
+            .sorted(Comparator.reverseOrder())
+            .limit(Math.max(1, threads))
+            .mapToLong(Long::longValue)
+            .sum();
+    }
+
+    public String explain() {
+        final StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "%10s %11s %10s %8s %12s %10s  %s%n", "file", "size", "decoded", "outputs", "out pixels", "peak", "input"));
+        long fileBytes = 0;
+        long decodedBytes = 0;
+        long outputPixels = 0;
+        int outputCount = 0;
+        for (final Input input : inputs) {
+            if (input.exists()) {
+                text.append(String.format(Locale.ROOT, "%10s %11s %10s %8d %12d %10s  %s%n",
+                    megabytes(input.fileBytes()), input.width() + "x" + input.height(), megabytes(input.decodedBytes()),
+                    input.outputs().size(), input.outputPixels(), megabytes(peakBytes(input)), input.path()));
+            } else {
+                text.append(String.format(Locale.ROOT, "%10s %11s %10s %8s %12s %10s  %s%n", "-", "missing", "-", "-", "-", "-", input.path()));
+            }
+            fileBytes += input.fileBytes();
+            decodedBytes += input.decodedBytes();
+            outputPixels += input.outputPixels();
+            outputCount += input.outputs().size();
+        }
+        text.append(inputs.size()).append(" input files, ").append(megabytes(fileBytes)).append(" to read and ").append(megabytes(decodedBytes)).append(" to decode\n");
+        text.append(outputCount).append(" files to write with ").append(outputPixels).append(" pixels");
+        if (leftover) {
+            text.append(", plus a leftover image per input");
+        }
+        text.append('\n');
+        text.append("Estimated peak image memory with ").append(Math.max(1, threads)).append(threads > 1 ? " threads: " : " thread: ").append(megabytes(peakBytes()));
+        appendProblems(text);
+        return text.toString();
+    }
+
+    // Every file a run would write, without writing any of them
+    public String dryRun() {
+        final StringBuilder text = new StringBuilder();
+        int count = 0;
+        for (final Input input : inputs) {
+            for (final Output output : input.outputs()) {
+                text.append(output.path());
+                if (!output.metadata()) {
+                    text.append(output.width() > 0 ? "  " + output.width() + "x" + output.height() : "  size unknown");
+                }
+                text.append("  <- ").append(input.path()).append('\n');
+                count++;
+            }
+            if (leftover && input.exists()) {
+                text.append(input.path()).append("  ").append(input.width()).append('x').append(input.height()).append("  (leftover)\n");
+                count++;
+            }
+        }
+        text.append("Would write ").append(count).append(" files");
+        appendProblems(text);
+        return text.toString();
+    }
+
+    private void appendProblems(final StringBuilder text) {
+        final List<String> problems = problems();
+        if (problems.isEmpty()) {
+            return;
+        }
+        text.append('\n').append(problems.size()).append(problems.size() == 1 ? " problem:" : " problems:");
+        for (final String problem : problems) {
+            text.append("\n  ").append(problem);
+        }
+    }
+
+    private static String megabytes(final long bytes) {
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+}
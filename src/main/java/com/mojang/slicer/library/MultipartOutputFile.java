@@ -3,14 +3,15 @@
 
 package com.mojang.slicer.library;
 
-import java.awt.Graphics;
+import org.jspecify.annotations.Nullable;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
 import java.util.List;
-import java.util.function.UnaryOperator;
+import java.util.Objects;
 
 public class MultipartOutputFile extends OutputFile {
     private final int width;
@@ -25,32 +26,56 @@ public class MultipartOutputFile extends OutputFile {
     }
 
     @Override
-    public void process(final Path root, final Path imagePath, final BufferedImage inputImage, final Graphics leftover) throws IOException {
-        final TransformedBox firstOutput = boxes.get(0);
-        final int outputWidth = this.width * inputImage.getWidth() / firstOutput.box().totalW();
-        final int outputHeight = this.height * inputImage.getHeight() / firstOutput.box().totalH();
-        BufferedImage outputImage = new BufferedImage(outputWidth, outputHeight, BufferedImage.TYPE_INT_ARGB);
-        for (TransformedBox box : boxes) {
-            box.process(inputImage, outputImage, leftover);
-        }
-
-        final Path outputPath = root.resolve(path);
-        Files.createDirectories(outputPath.getParent());
+    Box sourceBox() {
+        return boxes.get(0).box();
+    }
 
-        for (final UnaryOperator<BufferedImage> op : transformers) {
-            outputImage = op.apply(outputImage);
+    @Override
+    Rectangle sourceRegion(final int inputWidth, final int inputHeight) {
+        Rectangle region = null;
+        for (final TransformedBox part : boxes) {
+            final Rectangle partRegion = part.sourceRegion(inputWidth, inputHeight);
+            region = region != null ? region.union(partRegion) : partRegion;
         }
-        Slicer.writeImage(outputPath, outputImage);
+        return Objects.requireNonNull(region);
+    }
 
-        final Path inputMetaPath = getMetaPath(imagePath);
-        if (Files.exists(inputMetaPath)) {
-            Files.copy(inputMetaPath, getMetaPath(outputPath), StandardCopyOption.REPLACE_EXISTING);
-        } else if (metadata != null) {
-            Files.writeString(getMetaPath(outputPath), metadata);
+    @Override
+    @Nullable Dimension plannedSize(final int inputWidth, final int inputHeight) {
+        final Box first = boxes.get(0).box();
+        final int outputWidth = this.width * inputWidth / first.totalW();
+        final int outputHeight = this.height * inputHeight / first.totalH();
+        // Parts don't change the size of the output, but their crops still have to fit the input
+        for (final TransformedBox part : boxes) {
+            final Box box = part.box();
+            TransformPlan.size(inputWidth, inputHeight, box.scaleX(inputWidth), box.scaleY(inputHeight), box.scaleW(inputWidth), box.scaleH(inputHeight), part.transformers());
         }
+        return TransformPlan.size(outputWidth, outputHeight, 0, 0, outputWidth, outputHeight, transformers);
     }
 
-    private static Path getMetaPath(final Path path) {
-        return path.resolveSibling(path.getFileName().toString() + ".mcmeta");
+    @Override
+    public void process(final ProcessContext context, final Path imagePath, final BufferedImage inputImage, final Leftover leftover) throws IOException {
+        processRegion(context, imagePath, ImageRegion.whole(inputImage), leftover);
+    }
+
+    @Override
+    void processRegion(final ProcessContext context, final Path imagePath, final ImageRegion inputImage, final Leftover leftover) throws IOException {
+        final Events.Slice event = new Events.Slice();
+        event.begin();
+        final TransformedBox firstOutput = boxes.get(0);
+        final int outputWidth = this.width * inputImage.width() / firstOutput.box().totalW();
+        final int outputHeight = this.height * inputImage.height() / firstOutput.box().totalH();
+        final BufferedImage outputImage = new BufferedImage(outputWidth, outputHeight, BufferedImage.TYPE_INT_ARGB);
+        // Parts are composited straight into the output raster, a later part is drawn over any earlier one it overlaps
+        for (final TransformedBox box : boxes) {
+            box.process(inputImage, outputImage, leftover);
+        }
+
+        final BufferedImage transformedImage = TransformPlan.apply(outputImage, transformers);
+        event.end();
+        commitSlice(event, imagePath, inputImage, transformedImage);
+        context.writeImage(path, transformedImage);
+
+        writeMetadata(context, imagePath);
     }
 }
@@ -5,17 +5,18 @@ package com.mojang.slicer.library;
 
 import org.jspecify.annotations.Nullable;
 
-import java.awt.Color;
-import java.awt.Graphics;
+import java.awt.Dimension;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.UnaryOperator;
 
 public abstract class OutputFile {
-    protected static final Color REMOVED_MARKER = new Color(128, 0, 0, 128);
     protected final String path;
     protected final List<UnaryOperator<BufferedImage>> transformers = new ArrayList<>();
     protected @Nullable String metadata;
@@ -24,7 +25,15 @@ public abstract class OutputFile {
         this.path = path;
     }
 
-    public abstract void process(Path root, Path imagePath, BufferedImage image, Graphics leftover) throws IOException;
+    public abstract void process(ProcessContext context, Path imagePath, BufferedImage image, Leftover leftover) throws IOException;
+
+    // Outputs with a source region may be handed only the part of the input it covers, all others get the whole image
+    void processRegion(final ProcessContext context, final Path imagePath, final ImageRegion image, final Leftover leftover) throws IOException {
+        if (!image.isWhole()) {
+            throw new IllegalStateException(path + " needs the whole of " + imagePath);
+        }
+        process(context, imagePath, image.pixels(), leftover);
+    }
 
     public OutputFile apply(final UnaryOperator<BufferedImage> transform) {
         transformers.add(transform);
@@ -35,4 +44,82 @@ public abstract class OutputFile {
         this.metadata = metadata;
         return this;
     }
+
+    // Every image file this output writes
+    List<String> paths() {
+        return List.of(path);
+    }
+
+    // Whether the run report measures this output as one item. An output writing many files can measure each of them
+    // itself instead, and must not be measured again around them
+    boolean measuredAsOne() {
+        return true;
+    }
+
+    // The box this output reads from, whose totals give the dimensions of the input image in box units
+    @Nullable Box sourceBox() {
+        return null;
+    }
+
+    // The part of an input of the given size this output reads, null when any of it may be read
+    @Nullable Rectangle sourceRegion(final int width, final int height) {
+        return null;
+    }
+
+    // Size of the image this output writes for an input of the given size, null when it can't be known without the pixels
+    @Nullable Dimension plannedSize(final int width, final int height) {
+        return null;
+    }
+
+    boolean writesMetadata(final InputTree tree, final Path imagePath) {
+        return metadata != null || tree.exists(imagePath.resolveSibling(imagePath.getFileName().toString() + ".mcmeta"));
+    }
+
+    // Outputs that are a plain copy of their input don't need the input image decoded
+    protected boolean copiesInput() {
+        return false;
+    }
+
+    void copyInput(final ProcessContext context, final Path imagePath) throws IOException {
+        context.copyImage(imagePath, path);
+        writeMetadata(context, imagePath);
+    }
+
+    protected void writeMetadata(final ProcessContext context, final Path imagePath) throws IOException {
+        writeMetadata(context, imagePath, path);
+    }
+
+    protected void writeMetadata(final ProcessContext context, final Path imagePath, final String outputPath) throws IOException {
+        final Events.Metadata event = new Events.Metadata();
+        event.begin();
+        final Path inputMetaPath = imagePath.resolveSibling(imagePath.getFileName().toString() + ".mcmeta");
+        final boolean copied = context.exists(inputMetaPath);
+        if (copied) {
+            context.copyFile(inputMetaPath, outputPath + ".mcmeta");
+        } else if (metadata != null) {
+            context.writeFile(outputPath + ".mcmeta", metadata.getBytes(StandardCharsets.UTF_8));
+        } else {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.inputPath = (copied ? inputMetaPath : imagePath).toString();
+            event.outputPath = outputPath + ".mcmeta";
+            event.copied = copied;
+            event.commit();
+        }
+    }
+
+    // Call after end(), so the dimensions are only worked out when a recording takes the event
+    void commitSlice(final Events.Slice event, final Path imagePath, final ImageRegion input, final BufferedImage output) {
+        if (event.shouldCommit()) {
+            event.inputPath = imagePath.toString();
+            event.outputPath = path;
+            event.inputWidth = input.width();
+            event.inputHeight = input.height();
+            event.width = output.getWidth();
+            event.height = output.getHeight();
+            event.commit();
+        }
+    }
 }
@@ -0,0 +1,148 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+// Writes a resource pack with a noise texture at every input path, sized from the boxes reading it, for load testing
+public final class PackGenerator {
+    private static final String USAGE = "Usage: generate [--scale <factor>] [--seed <number>] [--mcmeta] <output dir or zip>";
+    // Inputs that are only ever copied whole don't say how big they are
+    private static final int DEFAULT_SIZE = 16;
+    private static final String METADATA = """
+            {
+                "animation": {
+                    "frametime": 2
+                }
+            }
+            """;
+    private static final String PACK_METADATA = """
+            {
+                "pack": {
+                    "pack_format": %d,
+                    "description": "Generated by slicer"
+                }
+            }
+            """;
+
+    private final Path outputPath;
+    private int scale = 1;
+    private long seed;
+    private boolean metadata;
+    private PngWriter png = PngWriter.DEFAULT;
+
+    public PackGenerator(final Path outputPath) {
+        this.outputPath = outputPath;
+    }
+
+    public static PackGenerator parse(final String[] argv) {
+        Path outputPath = null;
+        int scale = 1;
+        long seed = 0;
+        boolean metadata = false;
+        for (int i = 0; i < argv.length; i++) {
+            final String arg = argv[i];
+            switch (arg) {
+                case "--scale" -> scale = Slicer.parseNumber(Slicer.optionValue(argv, ++i, arg, USAGE), arg, 1, 1 << 10);
+                case "--seed" -> {
+                    final String value = Slicer.optionValue(argv, ++i, arg, USAGE);
+                    try {
+                        seed = Long.parseLong(value);
+                    } catch (final NumberFormatException e) {
+                        throw new IllegalArgumentException("Expected a number for " + arg + ", got " + value);
+                    }
+                }
+                case "--mcmeta" -> metadata = true;
+                default -> {
+                    if (arg.startsWith("--") || outputPath != null) {
+                        throw new IllegalArgumentException("Unexpected argument " + arg + "\n" + USAGE);
+                    }
+                    outputPath = Paths.get(arg);
+                }
+            }
+        }
+        if (outputPath == null) {
+            throw new IllegalArgumentException(USAGE);
+        }
+        return new PackGenerator(outputPath).scale(scale).seed(seed).metadata(metadata);
+    }
+
+    // Multiplies the vanilla size of every texture, so 1 gives a 16x pack and 8 a 128x pack
+    public PackGenerator scale(final int scale) {
+        if (scale < 1) {
+            throw new IllegalArgumentException("Scale must be positive, got " + scale);
+        }
+        this.scale = scale;
+        return this;
+    }
+
+    public PackGenerator seed(final long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    // Also writes an animation .mcmeta next to every texture
+    public PackGenerator metadata(final boolean metadata) {
+        this.metadata = metadata;
+        return this;
+    }
+
+    public PackGenerator compression(final int compression) {
+        this.png = new PngWriter(compression);
+        return this;
+    }
+
+    public void generate(final Migration migration) throws IOException {
+        final Map<String, Box> boxes = new LinkedHashMap<>();
+        for (final InputFile input : migration.inputs()) {
+            final Box box = input.sourceBox();
+            boxes.putIfAbsent(input.path(), box != null ? box : new Box(0, 0, 1, 1, 1, 1));
+        }
+
+        try (final PackOutput output = PackOutput.open(outputPath)) {
+            // Declares the format the migration applies to, so the launcher and server take the pack as it is
+            output.write("pack.mcmeta", PACK_METADATA.formatted(migration.sourcePackFormat()).getBytes(StandardCharsets.UTF_8), false);
+            for (final Map.Entry<String, Box> entry : boxes.entrySet()) {
+                final String path = entry.getKey();
+                final Box box = entry.getValue();
+                final boolean whole = box.totalW() == 1 && box.totalH() == 1;
+                final int width = (whole ? DEFAULT_SIZE : box.totalW()) * scale;
+                final int height = (whole ? DEFAULT_SIZE : box.totalH()) * scale;
+
+                // Seeded per path, so a texture looks the same whatever else is in the pack
+                output.write(path, png.encode(noise(width, height, new Random(seed ^ path.hashCode()))), true);
+                if (metadata) {
+                    output.write(path + ".mcmeta", METADATA.getBytes(StandardCharsets.UTF_8), false);
+                }
+            }
+        }
+        System.out.println("Generated " + boxes.size() + " textures at " + scale * 16 + "x in " + outputPath.toAbsolutePath());
+    }
+
+    // Gradients with a little per-pixel noise and transparent patches, so encoders see something like a real texture
+    private static BufferedImage noise(final int width, final int height, final Random random) {
+        final BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        final int[] pixels = Pixels.argbData(image);
+        final int patch = Math.max(width, height) / 8 + 1;
+        final int phase = random.nextInt(7);
+        final int tint = random.nextInt(0x1000000);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                final int alpha = (x / patch + y / patch + phase) % 7 == 0 ? 0 : 0xff;
+                final int red = ((tint >>> 16) + x * 255 / width + random.nextInt(16)) & 0xff;
+                final int green = ((tint >>> 8) + y * 255 / height + random.nextInt(16)) & 0xff;
+                final int blue = (tint + (x + y) * 127 / (width + height) + random.nextInt(16)) & 0xff;
+                pixels[y * width + x] = alpha << 24 | red << 16 | green << 8 | blue;
+            }
+        }
+        return image;
+    }
+}
@@ -0,0 +1,27 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+
+public interface PackOutput extends Closeable {
+    static PackOutput open(final Path path) throws IOException {
+        if (path.getFileName().toString().endsWith(".zip")) {
+            return new ZipOutput(path);
+        }
+        return new DirectoryOutput(path);
+    }
+
+    String describe(String path);
+
+    // compressed marks data that would not shrink any further, such as PNG files. Returns false when the file already
+    // held exactly this data and was left as it was
+    boolean write(String path, byte[] data, boolean compressed) throws IOException;
+
+    boolean copy(Path source, String path, boolean compressed) throws IOException;
+
+    boolean exists(String path);
+}
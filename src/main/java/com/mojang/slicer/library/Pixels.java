@@ -0,0 +1,63 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import org.jspecify.annotations.Nullable;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+
+// Row access straight from the int[] backing an ARGB raster, falling back to getRGB for any other layout
+record Pixels(BufferedImage image, int @Nullable [] data, int offset, int stride) {
+    static Pixels of(final BufferedImage image) {
+        final WritableRaster raster = image.getRaster();
+        if (image.getColorModel() instanceof DirectColorModel colorModel
+            && ColorModel.getRGBdefault().equals(colorModel)
+            && raster.getDataBuffer() instanceof DataBufferInt dataBuffer
+            && dataBuffer.getNumBanks() == 1
+            && raster.getSampleModel() instanceof SinglePixelPackedSampleModel sampleModel) {
+            final int stride = sampleModel.getScanlineStride();
+            final int offset = dataBuffer.getOffset() - raster.getSampleModelTranslateY() * stride - raster.getSampleModelTranslateX();
+            return new Pixels(image, dataBuffer.getData(), offset, stride);
+        }
+        return new Pixels(image, null, 0, 0);
+    }
+
+    // Backing array of an image created as TYPE_INT_ARGB, laid out row by row without padding
+    static int[] argbData(final BufferedImage image) {
+        return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+    }
+
+    void row(final int y, final int[] out) {
+        row(0, y, out, 0, out.length);
+    }
+
+    void row(final int x, final int y, final int[] out, final int outOffset, final int length) {
+        if (data != null) {
+            System.arraycopy(data, offset + y * stride + x, out, outOffset, length);
+        } else {
+            image.getRGB(x, y, length, 1, out, outOffset, length);
+        }
+    }
+
+    boolean isOpaque() {
+        if (!image.getColorModel().hasAlpha()) {
+            return true;
+        }
+        final int[] row = new int[image.getWidth()];
+        for (int y = 0; y < image.getHeight(); y++) {
+            row(y, row);
+            for (final int pixel : row) {
+                if (pixel >>> 24 != 0xff) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,403 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import org.jspecify.annotations.Nullable;
+
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+public final class PngReader {
+    private static final long SIGNATURE = 0x89504e470d0a1a0aL;
+    private static final int CHUNK_IHDR = 0x49484452;
+    private static final int CHUNK_PLTE = 0x504c5445;
+    private static final int CHUNK_TRNS = 0x74524e53;
+    private static final int CHUNK_IDAT = 0x49444154;
+    private static final int CHUNK_IEND = 0x49454e44;
+
+    private static final int COLOR_TYPE_GREY = 0;
+    private static final int COLOR_TYPE_RGB = 2;
+    private static final int COLOR_TYPE_PALETTE = 3;
+    private static final int COLOR_TYPE_GREY_ALPHA = 4;
+    private static final int COLOR_TYPE_RGBA = 6;
+
+    // Adam7 passes as {x start, y start, x step, y step}
+    private static final int[][] ADAM7 = {
+        {0, 0, 8, 8}, {4, 0, 8, 8}, {0, 4, 4, 8}, {2, 0, 4, 4}, {0, 2, 2, 4}, {1, 0, 2, 2}, {0, 1, 1, 2}
+    };
+    private static final int[][] NOT_INTERLACED = {{0, 0, 1, 1}};
+
+    private PngReader() {
+    }
+
+    public record Header(int width, int height, int bitDepth, int colorType, boolean interlaced) {
+        int channels() {
+            return switch (colorType) {
+                case COLOR_TYPE_RGB -> 3;
+                case COLOR_TYPE_GREY_ALPHA -> 2;
+                case COLOR_TYPE_RGBA -> 4;
+                default -> 1;
+            };
+        }
+
+        int bitsPerPixel() {
+            return channels() * bitDepth;
+        }
+    }
+
+    public static boolean isPng(final ByteBuffer buffer) {
+        return buffer.remaining() >= 8 && buffer.duplicate().order(ByteOrder.BIG_ENDIAN).getLong() == SIGNATURE;
+    }
+
+    // Only needs the signature and the IHDR chunk that must follow it, the first 33 bytes of the file
+    public static Header header(final ByteBuffer source) throws IOException {
+        final ByteBuffer buffer = source.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (!isPng(buffer)) {
+            throw new IOException("Not a PNG image");
+        }
+        buffer.position(buffer.position() + 8);
+        if (buffer.remaining() < 8) {
+            throw new IOException("PNG image has no header");
+        }
+        final int length = buffer.getInt();
+        if (buffer.getInt() != CHUNK_IHDR || length < 13 || buffer.remaining() < 13) {
+            throw new IOException("PNG image has no header");
+        }
+        return readHeader(buffer.slice(buffer.position(), 13));
+    }
+
+    public static BufferedImage read(final ByteBuffer source) throws IOException {
+        return read(source, null);
+    }
+
+    // Decodes only the pixels inside the region, which becomes the whole of the returned image. Rows past the region
+    // are never inflated, for an image that isn't interlaced that is everything after its last row
+    public static BufferedImage read(final ByteBuffer source, final @Nullable Rectangle region) throws IOException {
+        final ByteBuffer buffer = source.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (!isPng(buffer)) {
+            throw new IOException("Not a PNG image");
+        }
+        buffer.position(buffer.position() + 8);
+
+        Header header = null;
+        int[] palette = null;
+        ByteBuffer transparency = null;
+        final List<ByteBuffer> data = new ArrayList<>();
+        while (buffer.remaining() >= 8) {
+            final int length = buffer.getInt();
+            final int type = buffer.getInt();
+            if (length < 0 || length > buffer.remaining() - 4) {
+                throw new IOException("Truncated PNG chunk");
+            }
+            final ByteBuffer chunk = buffer.slice(buffer.position(), length);
+            // Skip the CRC as well; corrupt data is still caught by the zlib checksum
+            buffer.position(buffer.position() + length + 4);
+
+            if (type == CHUNK_IEND) {
+                break;
+            }
+            switch (type) {
+                case CHUNK_IHDR -> header = readHeader(chunk);
+                case CHUNK_PLTE -> palette = readPalette(chunk);
+                case CHUNK_TRNS -> transparency = chunk;
+                case CHUNK_IDAT -> data.add(chunk);
+                default -> {
+                }
+            }
+        }
+
+        if (header == null) {
+            throw new IOException("PNG image has no header");
+        }
+        if (header.colorType() == COLOR_TYPE_PALETTE) {
+            if (palette == null) {
+                throw new IOException("Palette PNG image has no palette");
+            }
+            if (transparency != null) {
+                for (int i = 0; i < palette.length && i < transparency.remaining(); i++) {
+                    palette[i] = (palette[i] & 0xffffff) | (transparency.get(i) & 0xff) << 24;
+                }
+            }
+        }
+
+        final Rectangle bounds = new Rectangle(header.width(), header.height());
+        if (region != null && (region.isEmpty() || !bounds.contains(region))) {
+            throw new IOException("Region " + region.width + "x" + region.height + " at " + region.x + "," + region.y + " is outside of a " + header.width() + "x" + header.height() + " image");
+        }
+        final Rectangle decoded = region != null ? region : bounds;
+        final BufferedImage image = new BufferedImage(decoded.width, decoded.height, BufferedImage.TYPE_INT_ARGB);
+        final int[] argb = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+        decode(header, palette, transparency, data, argb, decoded);
+        return image;
+    }
+
+    private static Header readHeader(final ByteBuffer chunk) throws IOException {
+        if (chunk.remaining() < 13) {
+            throw new IOException("Truncated PNG header");
+        }
+        final int width = chunk.getInt();
+        final int height = chunk.getInt();
+        final int bitDepth = chunk.get() & 0xff;
+        final int colorType = chunk.get() & 0xff;
+        final int compression = chunk.get() & 0xff;
+        final int filter = chunk.get() & 0xff;
+        final int interlace = chunk.get() & 0xff;
+
+        if (width <= 0 || height <= 0 || (long) width * height > Integer.MAX_VALUE - 8) {
+            throw new IOException("Unsupported PNG dimensions " + width + "x" + height);
+        }
+        final boolean validDepth = switch (colorType) {
+            case COLOR_TYPE_GREY -> bitDepth == 1 || bitDepth == 2 || bitDepth == 4 || bitDepth == 8 || bitDepth == 16;
+            case COLOR_TYPE_PALETTE -> bitDepth == 1 || bitDepth == 2 || bitDepth == 4 || bitDepth == 8;
+            case COLOR_TYPE_RGB, COLOR_TYPE_GREY_ALPHA, COLOR_TYPE_RGBA -> bitDepth == 8 || bitDepth == 16;
+            default -> false;
+        };
+        if (!validDepth || compression != 0 || filter != 0 || interlace > 1) {
+            throw new IOException("Unsupported PNG format (color type " + colorType + ", bit depth " + bitDepth + ")");
+        }
+        return new Header(width, height, bitDepth, colorType, interlace == 1);
+    }
+
+    private static int[] readPalette(final ByteBuffer chunk) {
+        final int[] palette = new int[chunk.remaining() / 3];
+        for (int i = 0; i < palette.length; i++) {
+            palette[i] = 0xff000000 | (chunk.get() & 0xff) << 16 | (chunk.get() & 0xff) << 8 | (chunk.get() & 0xff);
+        }
+        return palette;
+    }
+
+    private static void decode(final Header header, final int @Nullable [] palette, final @Nullable ByteBuffer transparency, final List<ByteBuffer> data, final int[] argb, final Rectangle region) throws IOException {
+        final int width = header.width();
+        final int height = header.height();
+        final int bitsPerPixel = header.bitsPerPixel();
+        final int filterOffset = Math.max(1, bitsPerPixel / 8);
+        final RowConverter converter = new RowConverter(header, palette, transparency);
+        final int[][] passes = header.interlaced() ? ADAM7 : NOT_INTERLACED;
+        final int regionEndX = region.x + region.width;
+        final int regionEndY = region.y + region.height;
+
+        final Inflater inflater = new Inflater();
+        try {
+            final ImageData input = new ImageData(inflater, data.iterator());
+            for (int passIndex = 0; passIndex < passes.length; passIndex++) {
+                final int[] pass = passes[passIndex];
+                final int passWidth = (width - pass[0] + pass[2] - 1) / pass[2];
+                final int passHeight = (height - pass[1] + pass[3] - 1) / pass[3];
+                if (passWidth <= 0 || passHeight <= 0) {
+                    continue;
+                }
+                // Columns of this pass that fall inside the region
+                final int first = Math.max(0, (region.x - pass[0] + pass[2] - 1) / pass[2]);
+                final int count = Math.min(passWidth, (regionEndX - pass[0] + pass[2] - 1) / pass[2]) - first;
+                // Later passes follow this one in the stream, so only the last one can stop early
+                final boolean last = passIndex == passes.length - 1;
+
+                // Both rows keep the filter type byte at index 0
+                final int rowLength = (int) (((long) passWidth * bitsPerPixel + 7) / 8) + 1;
+                byte[] previous = new byte[rowLength];
+                byte[] current = new byte[rowLength];
+                for (int row = 0; row < passHeight; row++) {
+                    final int y = pass[1] + row * pass[3];
+                    if (y >= regionEndY && last) {
+                        break;
+                    }
+                    // Rows above the region are still unfiltered, the rows below depend on them
+                    input.readFully(current);
+                    unfilter(current, previous, filterOffset);
+                    if (y >= region.y && y < regionEndY && count > 0) {
+                        converter.convert(current, first, argb, (y - region.y) * region.width + pass[0] + first * pass[2] - region.x, pass[2], count);
+                    }
+
+                    final byte[] swap = previous;
+                    previous = current;
+                    current = swap;
+                }
+            }
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void unfilter(final byte[] current, final byte[] previous, final int bpp) throws IOException {
+        final int length = current.length;
+        switch (current[0]) {
+            case 0 -> {
+            }
+            case 1 -> {
+                for (int i = 1 + bpp; i < length; i++) {
+                    current[i] += current[i - bpp];
+                }
+            }
+            case 2 -> {
+                for (int i = 1; i < length; i++) {
+                    current[i] += previous[i];
+                }
+            }
+            case 3 -> {
+                for (int i = 1; i < length; i++) {
+                    final int left = i > bpp ? current[i - bpp] & 0xff : 0;
+                    current[i] += (byte) ((left + (previous[i] & 0xff)) >>> 1);
+                }
+            }
+            case 4 -> {
+                for (int i = 1; i < length; i++) {
+                    final int left = i > bpp ? current[i - bpp] & 0xff : 0;
+                    final int upperLeft = i > bpp ? previous[i - bpp] & 0xff : 0;
+                    current[i] += (byte) PngWriter.paethPredictor(left, previous[i] & 0xff, upperLeft);
+                }
+            }
+            default -> throw new IOException("Unknown PNG filter type " + current[0]);
+        }
+    }
+
+    private static class ImageData {
+        private final Inflater inflater;
+        private final Iterator<ByteBuffer> chunks;
+
+        private ImageData(final Inflater inflater, final Iterator<ByteBuffer> chunks) {
+            this.inflater = inflater;
+            this.chunks = chunks;
+        }
+
+        void readFully(final byte[] buffer) throws IOException {
+            int offset = 0;
+            try {
+                while (offset < buffer.length) {
+                    final int count = inflater.inflate(buffer, offset, buffer.length - offset);
+                    if (count == 0) {
+                        if (inflater.finished() || inflater.needsDictionary() || !chunks.hasNext()) {
+                            throw new IOException("Truncated PNG image data");
+                        }
+                        inflater.setInput(chunks.next());
+                    }
+                    offset += count;
+                }
+            } catch (final DataFormatException e) {
+                throw new IOException("Corrupt PNG image data", e);
+            }
+        }
+    }
+
+    private static class RowConverter {
+        private final int colorType;
+        private final int bitDepth;
+        private final int @Nullable [] palette;
+        // Sample values (at the image's bit depth) that tRNS marks as fully transparent, or -1
+        private final int transparentGrey;
+        private final long transparentRgb;
+
+        private RowConverter(final Header header, final int @Nullable [] palette, final @Nullable ByteBuffer transparency) {
+            this.colorType = header.colorType();
+            this.bitDepth = header.bitDepth();
+            this.palette = palette;
+            if (transparency != null && colorType == COLOR_TYPE_GREY && transparency.remaining() >= 2) {
+                transparentGrey = transparency.getShort(0) & 0xffff;
+            } else {
+                transparentGrey = -1;
+            }
+            if (transparency != null && colorType == COLOR_TYPE_RGB && transparency.remaining() >= 6) {
+                final long red = transparency.getShort(0) & 0xffff;
+                final long green = transparency.getShort(2) & 0xffff;
+                final long blue = transparency.getShort(4) & 0xffff;
+                final int shift = bitDepth == 8 ? 8 : 16;
+                transparentRgb = red << (2 * shift) | green << shift | blue;
+            } else {
+                transparentRgb = -1;
+            }
+        }
+
+        // Converts count pixels of the row starting at its pixel first
+        void convert(final byte[] row, final int first, final int[] argb, final int start, final int step, final int count) {
+            int out = start;
+            switch (colorType) {
+                case COLOR_TYPE_RGBA -> {
+                    if (bitDepth == 8) {
+                        for (int i = 0, in = 1 + first * 4; i < count; i++, in += 4, out += step) {
+                            argb[out] = (row[in + 3] & 0xff) << 24 | (row[in] & 0xff) << 16 | (row[in + 1] & 0xff) << 8 | (row[in + 2] & 0xff);
+                        }
+                    } else {
+                        for (int i = 0, in = 1 + first * 8; i < count; i++, in += 8, out += step) {
+                            argb[out] = scale16(row, in + 6) << 24 | scale16(row, in) << 16 | scale16(row, in + 2) << 8 | scale16(row, in + 4);
+                        }
+                    }
+                }
+                case COLOR_TYPE_RGB -> {
+                    if (bitDepth == 8) {
+                        for (int i = 0, in = 1 + first * 3; i < count; i++, in += 3, out += step) {
+                            final int rgb = (row[in] & 0xff) << 16 | (row[in + 1] & 0xff) << 8 | (row[in + 2] & 0xff);
+                            argb[out] = rgb == transparentRgb ? rgb : 0xff000000 | rgb;
+                        }
+                    } else {
+                        for (int i = 0, in = 1 + first * 6; i < count; i++, in += 6, out += step) {
+                            final long samples = (long) sample16(row, in) << 32 | (long) sample16(row, in + 2) << 16 | sample16(row, in + 4);
+                            final int rgb = scale16(row, in) << 16 | scale16(row, in + 2) << 8 | scale16(row, in + 4);
+                            argb[out] = samples == transparentRgb ? rgb : 0xff000000 | rgb;
+                        }
+                    }
+                }
+                case COLOR_TYPE_GREY_ALPHA -> {
+                    if (bitDepth == 8) {
+                        for (int i = 0, in = 1 + first * 2; i < count; i++, in += 2, out += step) {
+                            argb[out] = (row[in + 1] & 0xff) << 24 | grey(row[in] & 0xff);
+                        }
+                    } else {
+                        for (int i = 0, in = 1 + first * 4; i < count; i++, in += 4, out += step) {
+                            argb[out] = scale16(row, in + 2) << 24 | grey(scale16(row, in));
+                        }
+                    }
+                }
+                case COLOR_TYPE_GREY -> {
+                    if (bitDepth == 16) {
+                        for (int i = 0, in = 1 + first * 2; i < count; i++, in += 2, out += step) {
+                            final int alpha = sample16(row, in) == transparentGrey ? 0 : 0xff000000;
+                            argb[out] = alpha | grey(scale16(row, in));
+                        }
+                    } else {
+                        final int max = (1 << bitDepth) - 1;
+                        for (int i = 0; i < count; i++, out += step) {
+                            final int value = packedSample(row, first + i);
+                            final int alpha = value == transparentGrey ? 0 : 0xff000000;
+                            argb[out] = alpha | grey(value * 255 / max);
+                        }
+                    }
+                }
+                default -> {
+                    final int[] colors = Objects.requireNonNull(palette);
+                    for (int i = 0; i < count; i++, out += step) {
+                        final int index = bitDepth == 8 ? row[1 + first + i] & 0xff : packedSample(row, first + i);
+                        argb[out] = index < colors.length ? colors[index] : 0xff000000;
+                    }
+                }
+            }
+        }
+
+        private int packedSample(final byte[] row, final int index) {
+            final int bit = index * bitDepth;
+            final int shift = 8 - bitDepth - (bit & 7);
+            return (row[1 + (bit >> 3)] >> shift) & ((1 << bitDepth) - 1);
+        }
+
+        private static int sample16(final byte[] row, final int offset) {
+            return (row[offset] & 0xff) << 8 | (row[offset + 1] & 0xff);
+        }
+
+        private static int scale16(final byte[] row, final int offset) {
+            return (sample16(row, offset) * 255 + 32767) / 65535;
+        }
+
+        private static int grey(final int value) {
+            return value << 16 | value << 8 | value;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+public final class PngWriter {
+    public static final int DEFAULT_COMPRESSION = 6;
+    public static final PngWriter DEFAULT = new PngWriter(DEFAULT_COMPRESSION);
+
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+    private static final int COLOR_TYPE_RGB = 2;
+    private static final int COLOR_TYPE_RGBA = 6;
+    private static final int FILTER_NONE = 0;
+    private static final int FILTER_SUB = 1;
+    private static final int FILTER_UP = 2;
+    private static final int FILTER_AVERAGE = 3;
+    private static final int FILTER_PAETH = 4;
+    private static final int MAX_CHUNK_SIZE = 1 << 16;
+
+    private final int compression;
+
+    public PngWriter(final int compression) {
+        if (compression < Deflater.NO_COMPRESSION || compression > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException("Compression level must be between 0 and 9, got " + compression);
+        }
+        this.compression = compression;
+    }
+
+    public int compression() {
+        return compression;
+    }
+
+    public byte[] encode(final BufferedImage image) throws IOException {
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+        write(image, os);
+        return os.toByteArray();
+    }
+
+    public void write(final BufferedImage image, final OutputStream os) throws IOException {
+        final int width = image.getWidth();
+        final int height = image.getHeight();
+        final Pixels pixels = Pixels.of(image);
+        final boolean opaque = pixels.isOpaque();
+        final int bytesPerPixel = opaque ? 3 : 4;
+
+        os.write(SIGNATURE);
+
+        final byte[] header = new byte[13];
+        writeInt(header, 0, width);
+        writeInt(header, 4, height);
+        header[8] = 8;
+        header[9] = (byte) (opaque ? COLOR_TYPE_RGB : COLOR_TYPE_RGBA);
+        writeChunk(os, "IHDR", header, header.length);
+
+        final Deflater deflater = new Deflater(compression);
+        try (final DeflaterOutputStream idat = new DeflaterOutputStream(new ChunkOutputStream(os, "IDAT"), deflater, MAX_CHUNK_SIZE)) {
+            final int rowLength = width * bytesPerPixel;
+            final int[] argb = new int[width];
+            byte[] previous = new byte[rowLength];
+            byte[] current = new byte[rowLength];
+            final byte[][] filtered = new byte[5][rowLength + 1];
+            for (int f = 0; f < filtered.length; f++) {
+                filtered[f][0] = (byte) f;
+            }
+
+            for (int y = 0; y < height; y++) {
+                pixels.row(y, argb);
+                toBytes(argb, current, opaque);
+                final byte[] row = compression == Deflater.NO_COMPRESSION
+                    ? filterNone(current, filtered[FILTER_NONE])
+                    : filterAdaptive(current, previous, bytesPerPixel, filtered);
+                idat.write(row, 0, rowLength + 1);
+
+                final byte[] swap = previous;
+                previous = current;
+                current = swap;
+            }
+        } finally {
+            deflater.end();
+        }
+
+        writeChunk(os, "IEND", new byte[0], 0);
+    }
+
+    private static void toBytes(final int[] argb, final byte[] out, final boolean opaque) {
+        int o = 0;
+        for (final int pixel : argb) {
+            out[o++] = (byte) (pixel >>> 16);
+            out[o++] = (byte) (pixel >>> 8);
+            out[o++] = (byte) pixel;
+            if (!opaque) {
+                out[o++] = (byte) (pixel >>> 24);
+            }
+        }
+    }
+
+    private static byte[] filterNone(final byte[] current, final byte[] out) {
+        System.arraycopy(current, 0, out, 1, current.length);
+        return out;
+    }
+
+    // Picks the filter with the lowest sum of absolute differences, as recommended by the PNG specification
+    private static byte[] filterAdaptive(final byte[] current, final byte[] previous, final int bpp, final byte[][] out) {
+        final int length = current.length;
+        final byte[] none = out[FILTER_NONE];
+        final byte[] sub = out[FILTER_SUB];
+        final byte[] up = out[FILTER_UP];
+        final byte[] average = out[FILTER_AVERAGE];
+        final byte[] paeth = out[FILTER_PAETH];
+        long sumNone = 0;
+        long sumSub = 0;
+        long sumUp = 0;
+        long sumAverage = 0;
+        long sumPaeth = 0;
+
+        for (int i = 0; i < length; i++) {
+            final int x = current[i] & 0xff;
+            final int a = i >= bpp ? current[i - bpp] & 0xff : 0;
+            final int b = previous[i] & 0xff;
+            final int c = i >= bpp ? previous[i - bpp] & 0xff : 0;
+
+            final byte n = (byte) x;
+            final byte s = (byte) (x - a);
+            final byte u = (byte) (x - b);
+            final byte v = (byte) (x - ((a + b) >>> 1));
+            final byte p = (byte) (x - paethPredictor(a, b, c));
+            none[i + 1] = n;
+            sub[i + 1] = s;
+            up[i + 1] = u;
+            average[i + 1] = v;
+            paeth[i + 1] = p;
+            sumNone += Math.abs(n);
+            sumSub += Math.abs(s);
+            sumUp += Math.abs(u);
+            sumAverage += Math.abs(v);
+            sumPaeth += Math.abs(p);
+        }
+
+        byte[] best = none;
+        long bestSum = sumNone;
+        if (sumSub < bestSum) {
+            best = sub;
+            bestSum = sumSub;
+        }
+        if (sumUp < bestSum) {
+            best = up;
+            bestSum = sumUp;
+        }
+        if (sumAverage < bestSum) {
+            best = average;
+            bestSum = sumAverage;
+        }
+        if (sumPaeth < bestSum) {
+            best = paeth;
+        }
+        return best;
+    }
+
+    static int paethPredictor(final int a, final int b, final int c) {
+        final int p = a + b - c;
+        final int pa = Math.abs(p - a);
+        final int pb = Math.abs(p - b);
+        final int pc = Math.abs(p - c);
+        if (pa <= pb && pa <= pc) {
+            return a;
+        }
+        return pb <= pc ? b : c;
+    }
+
+    private static void writeChunk(final OutputStream os, final String type, final byte[] data, final int length) throws IOException {
+        final byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        final CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data, 0, length);
+
+        final byte[] buffer = new byte[4];
+        writeInt(buffer, 0, length);
+        os.write(buffer);
+        os.write(typeBytes);
+        os.write(data, 0, length);
+        writeInt(buffer, 0, (int) crc.getValue());
+        os.write(buffer);
+    }
+
+    private static void writeInt(final byte[] buffer, final int offset, final int value) {
+        buffer[offset] = (byte) (value >>> 24);
+        buffer[offset + 1] = (byte) (value >>> 16);
+        buffer[offset + 2] = (byte) (value >>> 8);
+        buffer[offset + 3] = (byte) value;
+    }
+
+    private static class ChunkOutputStream extends OutputStream {
+        private final OutputStream os;
+        private final String type;
+        private final byte[] buffer = new byte[MAX_CHUNK_SIZE];
+        private int length;
+
+        private ChunkOutputStream(final OutputStream os, final String type) {
+            this.os = os;
+            this.type = type;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            if (length == buffer.length) {
+                flushChunk();
+            }
+            buffer[length++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (length == buffer.length) {
+                    flushChunk();
+                }
+                final int count = Math.min(len, buffer.length - length);
+                System.arraycopy(b, off, buffer, length, count);
+                length += count;
+                off += count;
+                len -= count;
+            }
+        }
+
+        private void flushChunk() throws IOException {
+            if (length > 0) {
+                writeChunk(os, type, buffer, length);
+                length = 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flushChunk();
+        }
+    }
+}
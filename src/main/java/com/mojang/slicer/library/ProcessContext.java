@@ -0,0 +1,503 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import org.jspecify.annotations.Nullable;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+public final class ProcessContext {
+    private final Run run;
+    private final @Nullable Collection<String> written;
+    // Listener calls of a task running in parallel are held back until the caller flushes them in submission order
+    private final @Nullable List<Consumer<SlicerListener>> events;
+    private final RunReport.@Nullable Item item;
+
+    public ProcessContext(final Path inputRoot, final PackOutput output, final @Nullable PackOutput leftover) {
+        this(new Run(new InputTree(inputRoot), null, output, leftover, new ImageCache(Map.of()), new EncodedImages(PngWriter.DEFAULT), null, null, null, new ConsoleListener(ConsoleListener.Verbosity.VERBOSE)), null, null, null);
+    }
+
+    ProcessContext(final InputTree input, final @Nullable ZipInput zipInput, final PackOutput output, final @Nullable PackOutput leftover, final ImageCache images, final EncodedImages encoded, final @Nullable ForkJoinPool pool, final @Nullable LeftoverReport leftoverReport, final @Nullable RunReport runReport, final SlicerListener listener) {
+        this(new Run(input, zipInput, output, leftover, images, encoded, pool, leftoverReport, runReport, listener), null, null, null);
+    }
+
+    private ProcessContext(final Run run, final @Nullable Collection<String> written, final @Nullable List<Consumer<SlicerListener>> events, final RunReport.@Nullable Item item) {
+        this.run = run;
+        this.written = written;
+        this.events = events;
+        this.item = item;
+    }
+
+    // Everything shared by all contexts of a run
+    private record Run(
+            InputTree input,
+            @Nullable ZipInput zipInput,
+            PackOutput output,
+            @Nullable PackOutput leftover,
+            ImageCache images,
+            EncodedImages encoded,
+            @Nullable ForkJoinPool pool,
+            @Nullable LeftoverReport leftoverReport,
+            @Nullable RunReport runReport,
+            SlicerListener listener
+    ) {
+    }
+
+    public Path inputRoot() {
+        return run.input().root();
+    }
+
+    // Where a file of the input pack is read from, which is the output of an earlier stage if one wrote it
+    public Path resolve(final String path) {
+        return run.input().resolve(path);
+    }
+
+    public boolean hasLeftoverOutput() {
+        return run.leftover() != null;
+    }
+
+    boolean tracksLeftover() {
+        return run.leftover() != null || run.leftoverReport() != null;
+    }
+
+    public void info(final String message) {
+        emit(listener -> listener.info(message));
+    }
+
+    public void error(final String message) {
+        emit(listener -> listener.error(message));
+    }
+
+    void emit(final Consumer<SlicerListener> event) {
+        if (events != null) {
+            events.add(event);
+        } else {
+            event.accept(run.listener());
+        }
+    }
+
+    public boolean exists(final Path path) {
+        return run.input().exists(path);
+    }
+
+    public BufferedImage readImage(final Path path) throws IOException {
+        return readImage(path, size -> null).pixels();
+    }
+
+    // Decodes only the region needed returns for the size of the image, or all of it for null
+    ImageRegion readImage(final Path path, final Function<Dimension, @Nullable Rectangle> needed) throws IOException {
+        final MemoryOutput.Entry entry = run.input().entry(path);
+        if (entry != null) {
+            final BufferedImage image = entry.image();
+            final byte[] data = entry.data();
+            return image != null ? ImageRegion.whole(image) : ImageCache.decode(path, ByteBuffer.wrap(Objects.requireNonNull(data)), needed);
+        }
+        if (item == null) {
+            return run.images().acquire(path, needed);
+        }
+        final long start = System.nanoTime();
+        final ImageRegion image = run.images().acquire(path, needed);
+        item.read(System.nanoTime() - start, Files.size(path));
+        return image;
+    }
+
+    public void releaseImage(final Path path) {
+        run.images().release(path);
+    }
+
+    public void writeImage(final String path, final BufferedImage image) throws IOException {
+        if (run.output() instanceof MemoryOutput memory) {
+            memory.writeImage(path, image);
+            recordWrite(path, true);
+        } else {
+            recordWrite(path, write(run.output(), path, image));
+        }
+    }
+
+    private boolean write(final PackOutput output, final String path, final BufferedImage image) throws IOException {
+        final Events.Encode event = new Events.Encode();
+        event.begin();
+        final long start = System.nanoTime();
+        final byte[] data = run.encoded().encode(image);
+        event.end();
+        if (event.shouldCommit()) {
+            event.outputPath = path;
+            event.width = image.getWidth();
+            event.height = image.getHeight();
+            event.bytes = data.length;
+            event.commit();
+        }
+        final long encoded = System.nanoTime();
+        final boolean changed = writeData(output, path, data, true);
+        if (item != null) {
+            item.encoded(encoded - start);
+            item.written(System.nanoTime() - encoded, changed ? data.length : 0, changed);
+        }
+        return changed;
+    }
+
+    void writeLeftover(final String path, final BufferedImage image, final Leftover coverage) throws IOException {
+        final LeftoverReport leftoverReport = run.leftoverReport();
+        if (leftoverReport != null) {
+            leftoverReport.add(path, image.getWidth(), image.getHeight(), coverage.uncovered(image));
+        }
+        final PackOutput leftover = run.leftover();
+        if (leftover != null) {
+            final BufferedImage leftoverImage = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_ARGB);
+            final Graphics2D leftoverGraphics = leftoverImage.createGraphics();
+            leftoverGraphics.drawImage(image, 0, 0, null);
+            leftoverGraphics.dispose();
+            coverage.paint(leftoverImage);
+
+            final String description = leftover.describe(path);
+            if (write(leftover, path, leftoverImage)) {
+                emit(listener -> listener.written(description));
+            } else {
+                emit(listener -> listener.unchanged(description));
+            }
+        }
+    }
+
+    public void copyImage(final Path source, final String path) throws IOException {
+        copy(source, path, true);
+    }
+
+    public void copyFile(final Path source, final String path) throws IOException {
+        copy(source, path, false);
+    }
+
+    private void copy(final Path source, final String path, final boolean compressed) throws IOException {
+        final MemoryOutput.Entry staged = run.input().entry(source);
+        if (staged != null) {
+            recordWrite(path, writeEntry(path, staged));
+            return;
+        }
+        final long start = System.nanoTime();
+        final ZipInput zipInput = run.zipInput();
+        final PackOutput output = run.output();
+        final Path inputRoot = run.input().root();
+        // Zip to zip copies move the compressed entry across as-is
+        if (zipInput != null && output instanceof ZipOutput zipOutput && source.getFileSystem() == inputRoot.getFileSystem()) {
+            final ZipInput.Entry entry = zipInput.entry(inputRoot.relativize(source).toString());
+            if (entry != null) {
+                final Events.Write event = new Events.Write();
+                event.begin();
+                final byte[] data = zipInput.readRaw(entry);
+                zipOutput.append(path, entry.method(), entry.crc(), entry.size(), data);
+                commit(event, path, data.length, true, false);
+                recordWrite(path, true);
+                reportWritten(start, data.length, true);
+                return;
+            }
+        }
+        final Events.Write event = new Events.Write();
+        event.begin();
+        final boolean changed = output.copy(source, path, compressed);
+        commit(event, path, Files.size(source), true, !changed);
+        recordWrite(path, changed);
+        reportWritten(start, Files.size(source), changed);
+    }
+
+    public void writeFile(final String path, final byte[] data) throws IOException {
+        final long start = System.nanoTime();
+        final boolean changed = writeData(run.output(), path, data, false);
+        recordWrite(path, changed);
+        reportWritten(start, data.length, changed);
+    }
+
+    <T> void forEach(final Collection<T> items, final Action<T> action) throws IOException {
+        final ForkJoinPool pool = run.pool();
+        if (pool == null || items.size() <= 1) {
+            for (final T item : items) {
+                action.run(this, item);
+            }
+            return;
+        }
+
+        final List<Task<T>> tasks = new ArrayList<>(items.size());
+        for (final T item : items) {
+            final Task<T> task = new Task<>(buffered(), action, item, null, 0);
+            if (ForkJoinTask.getPool() == pool) {
+                task.fork();
+            } else {
+                pool.execute(task);
+            }
+            tasks.add(task);
+        }
+        joinAll(tasks);
+    }
+
+    // Like forEach, but starts the items with the most estimated memory first, and only while what is running fits in
+    // the budget. An item over the budget still runs, on its own. Listener calls are still flushed in the order of items
+    <T> void forEach(final Collection<T> items, final ToLongFunction<T> memory, final LongSupplier budget, final Action<T> action) throws IOException {
+        final ForkJoinPool pool = run.pool();
+        // Waiting for the budget inside the pool could leave every worker waiting
+        if (pool == null || items.size() <= 1 || ForkJoinTask.getPool() == pool) {
+            forEach(items, action);
+            return;
+        }
+
+        final Budget admission = new Budget(pool, budget);
+        final List<Task<T>> tasks = new ArrayList<>(items.size());
+        for (final T item : items) {
+            tasks.add(new Task<>(buffered(), action, item, admission, memory.applyAsLong(item)));
+        }
+        final List<Task<T>> largestFirst = new ArrayList<>(tasks);
+        largestFirst.sort(Comparator.comparingLong((Task<T> task) -> task.memory).reversed());
+        admission.start(largestFirst);
+        joinAll(tasks);
+    }
+
+    private <T> void joinAll(final List<Task<T>> tasks) throws IOException {
+        final List<Exception> failures = new ArrayList<>();
+        for (final Task<T> task : tasks) {
+            final Exception failure = task.join();
+            task.context.flushTo(this);
+            if (failure != null) {
+                failures.add(failure);
+            }
+        }
+        rethrow(failures, tasks.size());
+    }
+
+    // Writes what an earlier stage left in memory to the output, encoding its images in parallel. Files already in
+    // written, because a later stage wrote them again, are left out
+    void drain(final MemoryOutput layer, final Set<String> written) throws IOException {
+        final List<Map.Entry<String, MemoryOutput.Entry>> files = layer.entries().entrySet().stream().filter(file -> written.add(file.getKey())).toList();
+        forEach(files, (context, file) -> {
+            final ProcessContext producer = new ProcessContext(context.run, context.written, context.events, layer.producer(file.getKey()));
+            producer.recordWrite(file.getKey(), producer.writeEntry(file.getKey(), file.getValue()));
+        });
+        layer.clear();
+    }
+
+    private boolean writeEntry(final String path, final MemoryOutput.Entry entry) throws IOException {
+        final PackOutput output = run.output();
+        final BufferedImage image = entry.image();
+        final byte[] data = entry.data();
+        if (output instanceof MemoryOutput memory) {
+            memory.put(path, entry);
+        } else if (image != null) {
+            return write(output, path, image);
+        } else if (data != null) {
+            final long start = System.nanoTime();
+            final boolean changed = writeData(output, path, data, entry.compressed());
+            reportWritten(start, data.length, changed);
+            return changed;
+        }
+        return true;
+    }
+
+    // What an earlier stage keeps in memory is only counted once it is drained to the output
+    private void reportWritten(final long start, final long bytes, final boolean changed) {
+        if (item != null && !(run.output() instanceof MemoryOutput)) {
+            item.written(System.nanoTime() - start, changed ? bytes : 0, changed);
+        }
+    }
+
+    private static boolean writeData(final PackOutput output, final String path, final byte[] data, final boolean compressed) throws IOException {
+        final Events.Write event = new Events.Write();
+        event.begin();
+        final boolean changed = output.write(path, data, compressed);
+        commit(event, path, data.length, false, !changed);
+        return changed;
+    }
+
+    private static void commit(final Events.Write event, final String path, final long bytes, final boolean copied, final boolean unchanged) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.outputPath = path;
+            event.bytes = bytes;
+            event.copied = copied;
+            event.unchanged = unchanged;
+            event.commit();
+        }
+    }
+
+    // Collects the paths of every file this context and its children write to the output
+    ProcessContext recordingWrites(final Collection<String> written) {
+        return new ProcessContext(run, Collections.synchronizedCollection(written), events, item);
+    }
+
+    // Runs the step with its reads, encodes, writes and allocations counted towards one item of the run report
+    void measure(final RunReport.Kind kind, final String path, final Step step) throws IOException {
+        final RunReport runReport = run.runReport();
+        if (runReport == null) {
+            step.run(this);
+            return;
+        }
+        final RunReport.Item measured = runReport.item(kind, path);
+        final long allocated = RunReport.allocatedBytes();
+        final long start = System.nanoTime();
+        try {
+            step.run(new ProcessContext(run, written, events, measured));
+        } finally {
+            final long spent = RunReport.allocatedBytes() - allocated;
+            measured.finish(System.nanoTime() - start, spent);
+            if (item != null) {
+                item.nested(spent);
+            }
+        }
+    }
+
+    // Every file written to the output goes through here, to be seen by the manifest and the listener. Files an earlier
+    // stage keeps in memory are only reported once drained to the output, so a file a later stage replaces counts once
+    private void recordWrite(final String path, final boolean changed) {
+        if (written != null) {
+            written.add(path);
+        }
+        final PackOutput output = run.output();
+        if (output instanceof MemoryOutput memory) {
+            if (item != null) {
+                memory.produced(path, item);
+            }
+            return;
+        }
+        final String description = output.describe(path);
+        if (changed) {
+            emit(listener -> listener.written(description));
+        } else {
+            emit(listener -> listener.unchanged(description));
+        }
+    }
+
+    private ProcessContext buffered() {
+        return new ProcessContext(run, written, new ArrayList<>(), item);
+    }
+
+    private void flushTo(final ProcessContext target) {
+        if (events == null) {
+            return;
+        }
+        for (final Consumer<SlicerListener> event : events) {
+            target.emit(event);
+        }
+        events.clear();
+    }
+
+    private static void rethrow(final List<Exception> failures, final int total) throws IOException {
+        if (failures.isEmpty()) {
+            return;
+        }
+        if (failures.size() == 1) {
+            final Exception failure = failures.get(0);
+            if (failure instanceof IOException e) {
+                throw e;
+            }
+            throw (RuntimeException) failure;
+        }
+        final IOException aggregate = new IOException(failures.size() + " of " + total + " tasks failed");
+        for (final Exception failure : failures) {
+            aggregate.addSuppressed(failure instanceof UncheckedIOException e ? e.getCause() : failure);
+        }
+        throw aggregate;
+    }
+
+    @FunctionalInterface
+    interface Action<T> {
+        void run(ProcessContext context, T item) throws IOException;
+    }
+
+    @FunctionalInterface
+    interface Step {
+        void run(ProcessContext context) throws IOException;
+    }
+
+    // Never serialized, RecursiveTask is only Serializable by inheritance
+    @SuppressWarnings("serial")
+    private static class Task<T> extends RecursiveTask<@Nullable Exception> {
+        private final ProcessContext context;
+        private final Action<T> action;
+        private final T item;
+        private final @Nullable Budget budget;
+        private final long memory;
+
+        private Task(final ProcessContext context, final Action<T> action, final T item, final @Nullable Budget budget, final long memory) {
+            this.context = context;
+            this.action = action;
+            this.item = item;
+            this.budget = budget;
+            this.memory = memory;
+        }
+
+        @Override
+        protected @Nullable Exception compute() {
+            try {
+                action.run(context, item);
+                return null;
+            } catch (final IOException | RuntimeException e) {
+                return e;
+            } finally {
+                if (budget != null) {
+                    budget.finished(memory);
+                }
+            }
+        }
+    }
+
+    // Starts tasks in the order given while their memory fits, and never more than the pool has threads for, so queued
+    // tasks don't hold on to budget that running ones could use
+    private static final class Budget {
+        private final ForkJoinPool pool;
+        private final LongSupplier bytes;
+        private final Deque<Task<?>> pending = new ArrayDeque<>();
+        private long used;
+        private int running;
+
+        private Budget(final ForkJoinPool pool, final LongSupplier bytes) {
+            this.pool = pool;
+            this.bytes = bytes;
+        }
+
+        synchronized void start(final List<? extends Task<?>> tasks) {
+            pending.addAll(tasks);
+            startPending();
+        }
+
+        synchronized void finished(final long memory) {
+            used -= memory;
+            running--;
+            startPending();
+        }
+
+        // Strictly in order, letting smaller tasks past a large one that doesn't fit yet could hold it off until the end
+        private void startPending() {
+            while (!pending.isEmpty() && running < pool.getParallelism()) {
+                final Task<?> next = pending.peek();
+                if (running > 0 && used + next.memory > bytes.getAsLong()) {
+                    return;
+                }
+                pending.poll();
+                used += next.memory;
+                running++;
+                pool.execute(next);
+            }
+        }
+    }
+}
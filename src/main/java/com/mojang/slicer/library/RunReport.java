@@ -0,0 +1,224 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+// Time, bytes and allocations spent on every input and output of a run
+final class RunReport {
+    private static final int SLOWEST = 5;
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+    private final List<Item> items = new ArrayList<>();
+    private final long start = System.nanoTime();
+    private long nanos;
+
+    enum Kind {
+        INPUT,
+        OUTPUT
+    }
+
+    // Thread-allocated bytes are tracked by HotSpot's own ThreadMXBean, other VMs just report zero
+    static long allocatedBytes() {
+        if (THREADS instanceof com.sun.management.ThreadMXBean threads && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getCurrentThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    synchronized Item item(final Kind kind, final String path) {
+        final Item item = new Item(kind, path);
+        items.add(item);
+        return item;
+    }
+
+    synchronized void finish() {
+        nanos = System.nanoTime() - start;
+    }
+
+    static final class Item {
+        private final Kind kind;
+        private final String path;
+        private final Thread thread = Thread.currentThread();
+        private long totalNanos;
+        private long readNanos;
+        private long encodeNanos;
+        private long writeNanos;
+        private long bytesIn;
+        private long bytesOut;
+        private long allocatedBytes;
+        private int files;
+        private int unchangedFiles;
+
+        private Item(final Kind kind, final String path) {
+            this.kind = kind;
+            this.path = path;
+        }
+
+        synchronized void read(final long nanos, final long bytes) {
+            readNanos += nanos;
+            bytesIn += bytes;
+        }
+
+        synchronized void encoded(final long nanos) {
+            encodeNanos += nanos;
+        }
+
+        // An unchanged file was already in the output as it would have been written, and only took the comparison
+        synchronized void written(final long nanos, final long bytes, final boolean changed) {
+            writeNanos += nanos;
+            bytesOut += bytes;
+            files++;
+            if (!changed) {
+                unchangedFiles++;
+            }
+        }
+
+        // Every file of the item was already up to date in the output
+        synchronized boolean unchanged() {
+            return files > 0 && unchangedFiles == files;
+        }
+
+        synchronized void finish(final long nanos, final long allocated) {
+            totalNanos += nanos;
+            allocatedBytes += allocated;
+        }
+
+        // A nested item measured on this item's own thread already counted its allocations, so they are not counted twice
+        synchronized void nested(final long allocated) {
+            if (Thread.currentThread() == thread) {
+                allocatedBytes -= allocated;
+            }
+        }
+
+        // Whatever the item spent outside of reading, encoding and writing went into slicing and transforming
+        long sliceNanos() {
+            return kind == Kind.OUTPUT ? Math.max(0, totalNanos - readNanos - encodeNanos - writeNanos) : 0;
+        }
+    }
+
+    synchronized void write(final Path file) throws IOException {
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        final Totals inputs = totals(Kind.INPUT);
+        final Totals outputs = totals(Kind.OUTPUT);
+        try (final BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writer.write("{\n");
+            writer.write("  \"wallNanos\": " + nanos + ",\n");
+            writer.write("  \"totals\": {\"inputs\": " + inputs.count() + ", \"outputs\": " + outputs.count() + ", \"unchangedOutputs\": " + outputs.unchanged()
+                + ", \"readNanos\": " + inputs.readNanos()
+                + ", \"sliceNanos\": " + outputs.sliceNanos()
+                + ", \"encodeNanos\": " + (inputs.encodeNanos() + outputs.encodeNanos())
+                + ", \"writeNanos\": " + (inputs.writeNanos() + outputs.writeNanos())
+                + ", \"bytesIn\": " + inputs.bytesIn()
+                + ", \"bytesOut\": " + (inputs.bytesOut() + outputs.bytesOut())
+                + ", \"allocatedBytes\": " + (inputs.allocatedBytes() + outputs.allocatedBytes()) + "},\n");
+            writeItems(writer, "inputs", Kind.INPUT, false);
+            writer.write(",\n");
+            writeItems(writer, "outputs", Kind.OUTPUT, false);
+            writer.write(",\n");
+            writeItems(writer, "slowestInputs", Kind.INPUT, true);
+            writer.write(",\n");
+            writeItems(writer, "slowestOutputs", Kind.OUTPUT, true);
+            writer.write("\n}\n");
+        }
+    }
+
+    private void writeItems(final BufferedWriter writer, final String name, final Kind kind, final boolean slowest) throws IOException {
+        writer.write("  \"" + name + "\": [");
+        final List<Item> selected = slowest ? slowest(kind) : items.stream().filter(item -> item.kind == kind).toList();
+        for (int i = 0; i < selected.size(); i++) {
+            final Item item = selected.get(i);
+            writer.write(i == 0 ? "\n" : ",\n");
+            writer.write("    {\"path\": " + Json.quote(item.path)
+                + ", \"totalNanos\": " + item.totalNanos
+                + ", \"readNanos\": " + item.readNanos
+                + ", \"sliceNanos\": " + item.sliceNanos()
+                + ", \"encodeNanos\": " + item.encodeNanos
+                + ", \"writeNanos\": " + item.writeNanos
+                + ", \"bytesIn\": " + item.bytesIn
+                + ", \"bytesOut\": " + item.bytesOut
+                + ", \"allocatedBytes\": " + item.allocatedBytes
+                + ", \"unchanged\": " + item.unchanged() + "}");
+        }
+        writer.write(selected.isEmpty() ? "]" : "\n  ]");
+    }
+
+    synchronized String summary() {
+        final Totals inputs = totals(Kind.INPUT);
+        final Totals outputs = totals(Kind.OUTPUT);
+        final StringBuilder summary = new StringBuilder();
+        summary.append("Processed ").append(inputs.count()).append(" inputs into ").append(outputs.count()).append(" outputs");
+        if (outputs.unchanged() > 0) {
+            summary.append(" (").append(outputs.unchanged()).append(" more already up to date)");
+        }
+        summary.append(" in ").append(millis(nanos)).append('\n');
+        summary.append("  read ").append(millis(inputs.readNanos()))
+            .append(", slice ").append(millis(outputs.sliceNanos()))
+            .append(", encode ").append(millis(inputs.encodeNanos() + outputs.encodeNanos()))
+            .append(", write ").append(millis(inputs.writeNanos() + outputs.writeNanos()))
+            .append(" (summed over all threads)\n");
+        summary.append("  ").append(megabytes(inputs.bytesIn())).append(" in, ")
+            .append(megabytes(inputs.bytesOut() + outputs.bytesOut())).append(" out, ")
+            .append(megabytes(inputs.allocatedBytes() + outputs.allocatedBytes())).append(" allocated");
+        appendSlowest(summary, "inputs", Kind.INPUT);
+        appendSlowest(summary, "outputs", Kind.OUTPUT);
+        return summary.toString();
+    }
+
+    private void appendSlowest(final StringBuilder summary, final String name, final Kind kind) {
+        final List<Item> slowest = slowest(kind);
+        if (slowest.isEmpty()) {
+            return;
+        }
+        summary.append("\n  Slowest ").append(name).append(':');
+        for (final Item item : slowest) {
+            summary.append("\n    ").append(String.format(Locale.ROOT, "%10s", millis(item.totalNanos))).append("  ").append(item.path);
+        }
+    }
+
+    private List<Item> slowest(final Kind kind) {
+        return items.stream()
+            .filter(item -> item.kind == kind)
+            .sorted(Comparator.comparingLong((Item item) -> item.totalNanos).reversed())
+            .limit(SLOWEST)
+            .toList();
+    }
+
+    private Totals totals(final Kind kind) {
+        Totals totals = new Totals(0, 0, 0, 0, 0, 0, 0, 0, 0);
+        for (final Item item : items) {
+            if (item.kind == kind) {
+                // Unchanged outputs are counted on their own, not as outputs the run wrote
+                final boolean unchanged = item.unchanged();
+                totals = new Totals(totals.count() + (unchanged ? 0 : 1), totals.unchanged() + (unchanged ? 1 : 0), totals.readNanos() + item.readNanos, totals.sliceNanos() + item.sliceNanos(), totals.encodeNanos() + item.encodeNanos,
+                    totals.writeNanos() + item.writeNanos, totals.bytesIn() + item.bytesIn, totals.bytesOut() + item.bytesOut, totals.allocatedBytes() + item.allocatedBytes);
+            }
+        }
+        return totals;
+    }
+
+    private record Totals(int count, int unchanged, long readNanos, long sliceNanos, long encodeNanos, long writeNanos, long bytesIn, long bytesOut, long allocatedBytes) {
+    }
+
+    private static String millis(final long nanos) {
+        return String.format(Locale.ROOT, "%.1f ms", nanos / 1e6);
+    }
+
+    private static String megabytes(final long bytes) {
+        return String.format(Locale.ROOT, "%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+}
@@ -3,13 +3,13 @@
 
 package com.mojang.slicer.library;
 
-import java.awt.Graphics;
+import org.jspecify.annotations.Nullable;
+
+import java.awt.Dimension;
+import java.awt.Rectangle;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.util.function.UnaryOperator;
 
 public class SimpleOutputFile extends OutputFile {
     private final Box box;
@@ -20,40 +20,53 @@ public class SimpleOutputFile extends OutputFile {
     }
 
     @Override
-    public void process(final Path root, final Path imagePath, final BufferedImage image, final Graphics leftover) throws IOException {
-        final int width = image.getWidth();
-        final int height = image.getHeight();
+    Box sourceBox() {
+        return box;
+    }
+
+    @Override
+    Rectangle sourceRegion(final int width, final int height) {
+        return new Rectangle(box.scaleX(width), box.scaleY(height), box.scaleW(width), box.scaleH(height));
+    }
+
+    @Override
+    @Nullable Dimension plannedSize(final int width, final int height) {
+        return TransformPlan.size(width, height, box.scaleX(width), box.scaleY(height), box.scaleW(width), box.scaleH(height), transformers);
+    }
+
+    @Override
+    protected boolean copiesInput() {
+        return box.x() == 0 && box.y() == 0 && box.w() == box.totalW() && box.h() == box.totalH() && transformers.isEmpty();
+    }
+
+    @Override
+    public void process(final ProcessContext context, final Path imagePath, final BufferedImage image, final Leftover leftover) throws IOException {
+        processRegion(context, imagePath, ImageRegion.whole(image), leftover);
+    }
+
+    @Override
+    void processRegion(final ProcessContext context, final Path imagePath, final ImageRegion image, final Leftover leftover) throws IOException {
+        final int width = image.width();
+        final int height = image.height();
 
-        final Path outputPath = root.resolve(path);
         final int x = box.scaleX(width);
         final int y = box.scaleY(height);
         final int w = box.scaleW(width);
         final int h = box.scaleH(height);
 
-        Files.createDirectories(outputPath.getParent());
-
         if (x == 0 && y == 0 && w == width && h == height && transformers.isEmpty()) {
-            Files.copy(imagePath, outputPath, StandardCopyOption.REPLACE_EXISTING);
+            context.copyImage(imagePath, path);
         } else {
-            BufferedImage subImage = image.getSubimage(x, y, w, h);
-            for (final UnaryOperator<BufferedImage> op : transformers) {
-                subImage = op.apply(subImage);
-            }
-            Slicer.writeImage(outputPath, subImage);
+            final Events.Slice event = new Events.Slice();
+            event.begin();
+            final BufferedImage outputImage = TransformPlan.apply(image.pixels(), x - image.x(), y - image.y(), w, h, transformers);
+            event.end();
+            commitSlice(event, imagePath, image, outputImage);
+            context.writeImage(path, outputImage);
         }
 
-        final Path inputMetaPath = getMetaPath(imagePath);
-        if (Files.exists(inputMetaPath)) {
-            Files.copy(inputMetaPath, getMetaPath(outputPath), StandardCopyOption.REPLACE_EXISTING);
-        } else if (metadata != null) {
-            Files.writeString(getMetaPath(outputPath), metadata);
-        }
-
-        leftover.setColor(REMOVED_MARKER);
-        leftover.fillRect(x, y, w, h);
-    }
+        writeMetadata(context, imagePath);
 
-    private static Path getMetaPath(final Path path) {
-        return path.resolveSibling(path.getFileName().toString() + ".mcmeta");
+        leftover.markRemoved(x, y, w, h);
     }
 }
@@ -5,8 +5,6 @@ package com.mojang.slicer.library;
 
 import org.jspecify.annotations.Nullable;
 
-import javax.imageio.ImageIO;
-import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.URI;
@@ -15,13 +13,43 @@ import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongSupplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 public class Slicer {
+    private static final String USAGE = "Usage: [--quiet | --verbose] [--explain] [--dry-run] [--threads <count>] [--memory <megabytes>] [--compression <0-9>] [--incremental] [--leftover-report <file>] [--report <file>] <input dir or zip> <output dir or zip> [<leftover dir or zip>]";
+
+    private static final String PACK_METADATA = "pack.mcmeta";
+    // Newer packs may only give a supported range, whose lower end is the format they were made for
+    private static final Pattern PACK_FORMAT = Pattern.compile("\"(?:pack_format|min_format)\"\\s*:\\s*\\[?\\s*(\\d+)");
+
     private final Path inputPath;
     private final Path outputPath;
     private final @Nullable Path leftoverPath;
+    private int threads = 1;
+    private @Nullable ForkJoinPool sharedPool;
+    private @Nullable OutputStream outputStream;
+    private PngWriter png = PngWriter.DEFAULT;
+    private @Nullable Path manifestPath;
+    private @Nullable Path leftoverReportPath;
+    private @Nullable Path reportPath;
+    private boolean explain;
+    private boolean dryRun;
+    // Room for decoded pixels shared by inputs processed in parallel, the rest of the heap is left for encoding
+    private long memoryBudget = Runtime.getRuntime().maxMemory() / 2;
+    private SlicerListener listener = new ConsoleListener(ConsoleListener.Verbosity.NORMAL);
 
     public Slicer(final Path inputPath, final Path outputPath, final @Nullable Path leftoverPath) {
         this.inputPath = inputPath;
@@ -30,43 +58,360 @@ public class Slicer {
     }
 
     public static Slicer parse(final String[] argv) {
-        final int argc = argv.length;
+        final List<String> args = new ArrayList<>();
+        int threads = 1;
+        Integer memory = null;
+        int compression = PngWriter.DEFAULT_COMPRESSION;
+        boolean incremental = false;
+        Path leftoverReportPath = null;
+        Path reportPath = null;
+        ConsoleListener.Verbosity verbosity = ConsoleListener.Verbosity.NORMAL;
+        boolean explain = false;
+        boolean dryRun = false;
+        for (int i = 0; i < argv.length; i++) {
+            final String arg = argv[i];
+            switch (arg) {
+                case "--quiet" -> verbosity = ConsoleListener.Verbosity.QUIET;
+                case "--verbose" -> verbosity = ConsoleListener.Verbosity.VERBOSE;
+                case "--explain" -> explain = true;
+                case "--dry-run" -> dryRun = true;
+                case "--threads" -> threads = parseNumber(optionValue(argv, ++i, arg, USAGE), arg, 1, Integer.MAX_VALUE);
+                case "--memory" -> memory = parseNumber(optionValue(argv, ++i, arg, USAGE), arg, 1, Integer.MAX_VALUE);
+                case "--compression" -> compression = parseNumber(optionValue(argv, ++i, arg, USAGE), arg, 0, 9);
+                case "--incremental" -> incremental = true;
+                case "--leftover-report" -> leftoverReportPath = Paths.get(optionValue(argv, ++i, arg, USAGE));
+                case "--report" -> reportPath = Paths.get(optionValue(argv, ++i, arg, USAGE));
+                default -> {
+                    if (arg.startsWith("--")) {
+                        throw new IllegalArgumentException("Unknown option " + arg + "\n" + USAGE);
+                    }
+                    args.add(arg);
+                }
+            }
+        }
+
+        final int argc = args.size();
         if (argc != 2 && argc != 3) {
-            throw new IllegalArgumentException("Usage: <input dir or zip> <output dir> [<leftover dir>]");
+            throw new IllegalArgumentException(USAGE);
+        }
+
+        final Path inputPath = Paths.get(args.get(0));
+        final Path outputPath = Paths.get(args.get(1));
+        final Path leftoverPath = argc == 3 ? Paths.get(args.get(2)) : null;
+
+        final Slicer slicer = new Slicer(inputPath, outputPath, leftoverPath).threads(threads).compression(compression).leftoverReport(leftoverReportPath).report(reportPath)
+            .explain(explain).dryRun(dryRun).listener(new ConsoleListener(verbosity));
+        if (memory != null) {
+            slicer.memoryBudget((long) memory << 20);
+        }
+        if (incremental) {
+            slicer.manifest(outputPath.resolveSibling(outputPath.getFileName() + ".manifest"));
+        }
+        return slicer;
+    }
+
+    public static String optionValue(final String[] argv, final int index, final String option, final String usage) {
+        if (index >= argv.length) {
+            throw new IllegalArgumentException("Missing value for " + option + "\n" + usage);
         }
+        return argv[index];
+    }
 
-        final Path inputPath = Paths.get(argv[0]);
-        final Path outputPath = Paths.get(argv[1]);
-        final Path leftoverPath = argc == 3 ? Paths.get(argv[2]) : null;
+    public static int parseNumber(final String value, final String option, final int min, final int max) {
+        try {
+            final int number = Integer.parseInt(value);
+            if (number >= min && number <= max) {
+                return number;
+            }
+        } catch (final NumberFormatException ignored) {
+        }
+        final String range = max == Integer.MAX_VALUE ? "at least " + min : "between " + min + " and " + max;
+        throw new IllegalArgumentException("Expected a number " + range + " for " + option + ", got " + value);
+    }
 
-        return new Slicer(inputPath, outputPath, leftoverPath);
+    public Slicer threads(final int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive, got " + threads);
+        }
+        this.threads = threads;
+        return this;
     }
 
-    public static void writeImage(final Path path, final BufferedImage image) throws IOException {
-        Files.createDirectories(path.getParent());
-        Files.deleteIfExists(path);
-        try (final OutputStream os = Files.newOutputStream(path)) {
-            ImageIO.write(image, "png", os);
-            System.out.println(path.toAbsolutePath());
+    // Runs on this pool when threads is above one, instead of starting a pool for every run. The pool is left running, so
+    // many runs in one process can share it, and its own size bounds their threads
+    public Slicer pool(final @Nullable ForkJoinPool pool) {
+        this.sharedPool = pool;
+        return this;
+    }
+
+    // Writes the output as a zip to the stream, which is closed at the end of the run, instead of to the output path,
+    // which then only names it in messages
+    public Slicer outputStream(final @Nullable OutputStream outputStream) {
+        this.outputStream = outputStream;
+        return this;
+    }
+
+    // With threads, inputs are started largest first and only while the pixel memory they are estimated to need fits
+    public Slicer memoryBudget(final long bytes) {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("Memory budget must be positive, got " + bytes);
         }
+        this.memoryBudget = bytes;
+        return this;
+    }
+
+    public Slicer compression(final int compression) {
+        this.png = new PngWriter(compression);
+        return this;
+    }
+
+    // Inputs whose source is unchanged since the run that wrote this manifest, and whose outputs still exist, are skipped
+    public Slicer manifest(final @Nullable Path manifestPath) {
+        this.manifestPath = manifestPath;
+        return this;
+    }
+
+    // Writes the regions of every input image that no output covered as JSON
+    public Slicer leftoverReport(final @Nullable Path leftoverReportPath) {
+        this.leftoverReportPath = leftoverReportPath;
+        return this;
+    }
+
+    // Writes the time, bytes and allocations spent on every input and output as JSON, and prints a summary of them
+    public Slicer report(final @Nullable Path reportPath) {
+        this.reportPath = reportPath;
+        return this;
+    }
+
+    // Instead of processing, reports the size, decoded memory and outputs of every input as worked out by plan()
+    public Slicer explain(final boolean explain) {
+        this.explain = explain;
+        return this;
+    }
+
+    // Instead of processing, lists every file that would be written
+    public Slicer dryRun(final boolean dryRun) {
+        this.dryRun = dryRun;
+        return this;
+    }
+
+    // Replaces the console output, SlicerListener.NONE keeps the run silent
+    public Slicer listener(final SlicerListener listener) {
+        this.listener = listener;
+        return this;
     }
 
     public void process(final Collection<InputFile> inputs) throws IOException {
-        if (Files.isDirectory(inputPath)) {
-            process(inputs, inputPath, outputPath, leftoverPath);
-        } else if (inputPath.getFileName().toString().endsWith(".zip")) {
-            final URI fsUri = URI.create("jar:" + inputPath.toUri());
-            try (final FileSystem fs = FileSystems.newFileSystem(fsUri, Collections.emptyMap())) {
-                process(inputs, fs.getPath("/"), outputPath, leftoverPath);
+        process(List.of(inputs));
+    }
+
+    // Runs the stages one after another, each reading the input as updated by the stages before it, and writes what
+    // they all produced to the output. Lets several version migrations run in one go
+    public void process(final List<? extends Collection<InputFile>> stages) throws IOException {
+        if (explain || dryRun) {
+            for (final MigrationPlan plan : plan(stages)) {
+                if (explain) {
+                    listener.info(plan.explain());
+                }
+                if (dryRun) {
+                    listener.info(plan.dryRun());
+                }
             }
+            return;
+        }
+        if (stages.size() > 1 && manifestPath != null) {
+            throw new IllegalStateException("Incremental runs only support a single stage");
+        }
+        if (Files.isDirectory(inputPath)) {
+            process(stages, inputPath, null);
         } else {
+            try (final FileSystem fs = openZip(); final ZipInput zipInput = ZipInput.open(inputPath)) {
+                process(stages, fs.getPath("/"), zipInput);
+            }
+        }
+    }
+
+    // Resolves the inputs against the input pack, reading no more than the header of each image
+    public MigrationPlan plan(final Collection<InputFile> inputs) throws IOException {
+        return plan(List.of(inputs)).get(0);
+    }
+
+    // Plans every stage, each against the input with what the stages before it plan to write laid over it, like a run
+    public List<MigrationPlan> plan(final List<? extends Collection<InputFile>> stages) throws IOException {
+        if (Files.isDirectory(inputPath)) {
+            return plan(stages, inputPath);
+        }
+        try (final FileSystem fs = openZip()) {
+            return plan(stages, fs.getPath("/"));
+        }
+    }
+
+    private List<MigrationPlan> plan(final List<? extends Collection<InputFile>> stages, final Path inputRoot) {
+        final List<MigrationPlan> plans = new ArrayList<>(stages.size());
+        final List<MemoryOutput> layers = new ArrayList<>();
+        for (final Collection<InputFile> stage : stages) {
+            final MigrationPlan plan = MigrationPlan.compile(stage, new InputTree(inputRoot, List.copyOf(layers)), leftoverPath != null, threads);
+            plans.add(plan);
+            layers.add(0, MemoryOutput.planned(plan));
+        }
+        return plans;
+    }
+
+    // The pack_format declared by the pack.mcmeta at the root of the input, empty without one
+    public OptionalInt packFormat() throws IOException {
+        if (Files.isDirectory(inputPath)) {
+            return packFormat(inputPath.resolve(PACK_METADATA));
+        }
+        try (final FileSystem fs = openZip()) {
+            return packFormat(fs.getPath("/", PACK_METADATA));
+        }
+    }
+
+    // Fails unless the input is a directory or a zip file that opens
+    public void checkInput() throws IOException {
+        if (!Files.isDirectory(inputPath)) {
+            openZip().close();
+        }
+    }
+
+    private static OptionalInt packFormat(final Path metadata) throws IOException {
+        if (!Files.exists(metadata)) {
+            return OptionalInt.empty();
+        }
+        final Matcher matcher = PACK_FORMAT.matcher(Files.readString(metadata));
+        return matcher.find() ? OptionalInt.of(Integer.parseInt(matcher.group(1))) : OptionalInt.empty();
+    }
+
+    private FileSystem openZip() throws IOException {
+        if (!inputPath.getFileName().toString().endsWith(".zip")) {
             throw new IllegalStateException("Expected either directory or zip file");
         }
+        return FileSystems.newFileSystem(URI.create("jar:" + inputPath.toUri()), Collections.emptyMap());
+    }
+
+    private void process(final List<? extends Collection<InputFile>> stages, final Path inputRoot, final @Nullable ZipInput zipInput) throws IOException {
+        final ForkJoinPool sharedPool = this.sharedPool;
+        final ForkJoinPool pool = threads == 1 ? null : sharedPool != null ? sharedPool : new ForkJoinPool(threads);
+        // Shared by all stages, an image a later stage writes again comes out of the cache
+        final EncodedImages encoded = new EncodedImages(png);
+        try {
+            final Path manifestPath = this.manifestPath;
+            final Manifest manifest = manifestPath != null ? Manifest.read(manifestPath, Manifest.toolVersion()) : null;
+            final Path leftoverReportPath = this.leftoverReportPath;
+            final LeftoverReport leftoverReport = leftoverReportPath != null ? new LeftoverReport() : null;
+            final Path reportPath = this.reportPath;
+            final RunReport report = reportPath != null ? new RunReport() : null;
+            final OutputStream outputStream = this.outputStream;
+            try (final PackOutput output = outputStream != null ? new ZipOutput(outputPath, outputStream) : PackOutput.open(outputPath); final PackOutput leftover = leftoverPath != null ? PackOutput.open(leftoverPath) : null) {
+                listener.started(stages.stream().mapToInt(stage -> (int) stage.stream().map(InputFile::path).distinct().count()).sum());
+                if (stages.size() == 1) {
+                    processStage(stages.get(0), new InputTree(inputRoot), zipInput, output, leftover, pool, encoded, manifest, leftoverReport, report, null);
+                } else {
+                    processStages(stages, inputRoot, zipInput, output, leftover, pool, encoded, leftoverReport, report);
+                }
+                if (leftoverReportPath != null && leftoverReport != null) {
+                    leftoverReport.write(leftoverReportPath);
+                }
+                if (reportPath != null && report != null) {
+                    report.finish();
+                    report.write(reportPath);
+                    listener.info(report.summary());
+                    listener.info("Report written to " + reportPath.toAbsolutePath());
+                }
+            } finally {
+                if (manifestPath != null && manifest != null) {
+                    manifest.write(manifestPath);
+                }
+                listener.finished();
+            }
+        } finally {
+            if (pool != null && pool != sharedPool) {
+                pool.shutdown();
+            }
+        }
+    }
+
+    // Every stage but the last writes to memory, where the stages after it read from, and the last one writes to the
+    // output. What the earlier stages wrote is only encoded and written out at the end, unless a later stage replaced it
+    private void processStages(final List<? extends Collection<InputFile>> stages, final Path inputRoot, final @Nullable ZipInput zipInput, final PackOutput output, final @Nullable PackOutput leftover, final @Nullable ForkJoinPool pool, final EncodedImages encoded, final @Nullable LeftoverReport leftoverReport, final @Nullable RunReport report) throws IOException {
+        final List<MemoryOutput> layers = new ArrayList<>();
+        final Set<String> written = new HashSet<>();
+        for (int i = 0; i < stages.size(); i++) {
+            final InputTree tree = new InputTree(inputRoot, List.copyOf(layers));
+            if (i == stages.size() - 1) {
+                processStage(stages.get(i), tree, zipInput, output, leftover, pool, encoded, null, leftoverReport, report, written);
+            } else {
+                final MemoryOutput stageOutput = new MemoryOutput(output);
+                processStage(stages.get(i), tree, zipInput, stageOutput, leftover, pool, encoded, null, leftoverReport, report, null);
+                layers.add(0, stageOutput);
+            }
+        }
+        final ProcessContext context = new ProcessContext(new InputTree(inputRoot), zipInput, output, null, new ImageCache(Map.of()), encoded, pool, null, null, listener);
+        for (final MemoryOutput layer : layers) {
+            context.drain(layer, written);
+        }
     }
 
-    private static void process(final Collection<InputFile> inputs, final Path inputPath, final Path outputPath, final @Nullable Path leftoverPath) throws IOException {
+    // Peak pixel memory of every input path, from the image headers alone. Only needed to schedule parallel work
+    private Map<String, Long> estimateMemory(final Collection<InputFile> inputs, final InputTree tree, final boolean leftover, final @Nullable ForkJoinPool pool) {
+        if (pool == null) {
+            return Map.of();
+        }
+        final MigrationPlan plan = MigrationPlan.compile(inputs, tree, leftover, threads);
+        final Map<String, Long> memory = new HashMap<>();
+        for (final MigrationPlan.Input input : plan.inputs()) {
+            memory.put(input.path(), plan.peakBytes(input));
+        }
+        return memory;
+    }
+
+    private void processStage(final Collection<InputFile> inputs, final InputTree tree, final @Nullable ZipInput zipInput, final PackOutput output, final @Nullable PackOutput leftover, final @Nullable ForkJoinPool pool, final EncodedImages encoded, final @Nullable Manifest manifest, final @Nullable LeftoverReport leftoverReport, final @Nullable RunReport report, final @Nullable Collection<String> stageWritten) throws IOException {
+        // Inputs reading the same file also write the same leftover image, so each such group runs in order
+        final Map<String, List<InputFile>> inputsByPath = new LinkedHashMap<>();
+        final Map<Path, Integer> imageReferences = new HashMap<>();
         for (final InputFile input : inputs) {
-            input.process(inputPath, outputPath, leftoverPath);
+            inputsByPath.computeIfAbsent(input.path(), path -> new ArrayList<>()).add(input);
+            imageReferences.merge(tree.resolve(input.path()), 1, Integer::sum);
         }
+        final ImageCache images = new ImageCache(imageReferences);
+        final ProcessContext stageContext = new ProcessContext(tree, zipInput, output, leftover, images, encoded, pool, leftoverReport, report, listener);
+        final ProcessContext context = stageWritten != null ? stageContext.recordingWrites(stageWritten) : stageContext;
+        // A leftover report only reads the mask, it doesn't paint a copy of the input like leftover images do
+        final Map<String, Long> memory = estimateMemory(inputs, tree, leftover != null, pool);
+        // Images an earlier stage or this one keep in memory for the stages after them leave less for decoding
+        final MemoryOutput retaining = output instanceof MemoryOutput memoryOutput ? memoryOutput : null;
+        final LongSupplier budget = () -> memoryBudget - tree.retainedBytes() - (retaining != null ? retaining.retainedBytes() : 0);
+        context.forEach(inputsByPath.values(), group -> memory.getOrDefault(group.get(0).path(), 0L), budget, (groupContext, group) -> {
+            final String path = group.get(0).path();
+            if (manifest == null) {
+                for (final InputFile input : group) {
+                    input.process(groupContext);
+                }
+                groupContext.emit(groupListener -> groupListener.inputFinished(path));
+                return;
+            }
+
+            final Path sourcePath = tree.resolve(path);
+            final String hash = Manifest.hash(sourcePath);
+            final List<String> expectedOutputs = group.stream().flatMap(input -> input.outputPaths().stream()).toList();
+            // Skipped inputs would be missing from the report, so it always needs a full run
+            if (leftoverReport == null && (leftover == null || leftover.exists(path)) && manifest.isUpToDate(path, hash, expectedOutputs, output)) {
+                for (final InputFile ignored : group) {
+                    groupContext.releaseImage(sourcePath);
+                }
+                groupContext.emit(groupListener -> groupListener.inputSkipped(path));
+                return;
+            }
+
+            final List<String> written = new ArrayList<>();
+            final ProcessContext recordingContext = groupContext.recordingWrites(written);
+            for (final InputFile input : group) {
+                input.process(recordingContext);
+            }
+            if (hash != null) {
+                manifest.record(path, hash, written);
+            }
+            groupContext.emit(groupListener -> groupListener.inputFinished(path));
+        });
     }
 }
@@ -0,0 +1,37 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+// Receives what a Slicer run does. Calls come from one thread at a time and in input order, even with --threads
+public interface SlicerListener {
+    SlicerListener NONE = new SlicerListener() {
+    };
+
+    default void started(final int inputCount) {
+    }
+
+    // A file was written to the output or leftover pack, described by where it ended up
+    default void written(final String description) {
+    }
+
+    // A file of the output already held what the run would have written to it, and was left as it was
+    default void unchanged(final String description) {
+    }
+
+    default void inputFinished(final String path) {
+    }
+
+    // The input and its outputs are unchanged since the last incremental run
+    default void inputSkipped(final String path) {
+    }
+
+    default void info(final String message) {
+    }
+
+    default void error(final String message) {
+    }
+
+    default void finished() {
+    }
+}
@@ -0,0 +1,62 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+// Pixel-exact geometric operations the library understands, so chains of them can be fused into a single copy.
+// Any other UnaryOperator<BufferedImage> still works as a transformer, it just runs on its own
+public sealed interface Transform extends UnaryOperator<BufferedImage> permits Dihedral, Transform.Crop, Transform.Clip, Transform.Extend, Transform.Square, Transform.StackFrames {
+    // Keeps only the part of the image inside the box
+    static Transform crop(final Box box) {
+        return new Crop(box);
+    }
+
+    // Keeps the size of the image, but clears everything outside the box
+    static Transform clip(final Box box) {
+        return new Clip(box);
+    }
+
+    // Resizes the canvas to width x height and places the image at x, y, all in units of a sourceWidth x sourceHeight image
+    static Transform extend(final int sourceWidth, final int sourceHeight, final int x, final int y, final int width, final int height) {
+        return new Extend(sourceWidth, sourceHeight, x, y, width, height);
+    }
+
+    // Pads the shorter side so the image is centered on a square canvas
+    static Transform square() {
+        return new Square();
+    }
+
+    // Turns a horizontal strip of animation frames into a vertical one
+    static Transform stackFrames(final int frameCount) {
+        return new StackFrames(frameCount);
+    }
+
+    @Override
+    default BufferedImage apply(final BufferedImage image) {
+        return TransformPlan.apply(image, List.of(this));
+    }
+
+    record Crop(Box box) implements Transform {
+    }
+
+    record Clip(Box box) implements Transform {
+    }
+
+    record Extend(int sourceWidth, int sourceHeight, int x, int y, int width, int height) implements Transform {
+    }
+
+    record Square() implements Transform {
+    }
+
+    record StackFrames(int frameCount) implements Transform {
+        public StackFrames {
+            if (frameCount < 1) {
+                throw new IllegalArgumentException("Frame count must be positive, got " + frameCount);
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import org.jspecify.annotations.Nullable;
+
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.awt.image.RasterFormatException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+// A chain of Transforms reduced to oriented copies of source rectangles onto a transparent canvas
+final class TransformPlan {
+    private int width;
+    private int height;
+    private List<Piece> pieces;
+    // Set by any Transform but a crop. Those used to draw onto a fresh canvas, which Java2D composites, so the colour
+    // of fully transparent pixels was lost and partly transparent ones were rounded the way AlphaBlend does
+    private boolean composited;
+
+    private TransformPlan(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+        this.pieces = List.of(new Piece(0, 0, width, height, Dihedral.IDENTITY, 0, 0));
+    }
+
+    static BufferedImage apply(final BufferedImage image, final List<? extends UnaryOperator<BufferedImage>> transformers) {
+        return apply(image, 0, 0, image.getWidth(), image.getHeight(), transformers);
+    }
+
+    // Crops the image to the given region and runs the transformers, with every run of Transforms done as one copy
+    static BufferedImage apply(final BufferedImage image, final int x, final int y, final int w, final int h, final List<? extends UnaryOperator<BufferedImage>> transformers) {
+        final Staged staged = stage(image, x, y, w, h, transformers);
+        return staged.plan().render(staged.source());
+    }
+
+    // Like apply, but copies the result straight into the target with its top left corner at targetX, targetY.
+    // The pixels are composited over what the target holds, exactly as drawing the result with Graphics2D would
+    static void draw(final BufferedImage image, final int x, final int y, final int w, final int h, final List<? extends UnaryOperator<BufferedImage>> transformers, final BufferedImage target, final int targetX, final int targetY) {
+        final Staged staged = stage(image, x, y, w, h, transformers);
+        final Pixels targetPixels = Pixels.of(target);
+        final int[] targetData = targetPixels.data();
+        if (targetData == null) {
+            final Graphics2D graphics = target.createGraphics();
+            graphics.drawImage(staged.plan().render(staged.source()), targetX, targetY, null);
+            graphics.dispose();
+            return;
+        }
+        final TransformPlan plan = staged.plan();
+        plan.translate(targetX, targetY);
+        plan.clip(0, 0, target.getWidth(), target.getHeight());
+        plan.draw(Pixels.of(staged.source()), targetData, targetPixels.offset(), targetPixels.stride(), true);
+    }
+
+    // Size apply would produce, without touching any pixels. Null when a transformer that is not a Transform is involved,
+    // as only running it tells. Throws like apply does when a crop falls outside of the image
+    static @Nullable Dimension size(final int width, final int height, final int x, final int y, final int w, final int h, final List<? extends UnaryOperator<BufferedImage>> transformers) {
+        final TransformPlan plan = new TransformPlan(width, height);
+        plan.crop(x, y, w, h);
+        for (final UnaryOperator<BufferedImage> transformer : transformers) {
+            if (!(transformer instanceof Transform transform)) {
+                return null;
+            }
+            plan.add(transform);
+        }
+        return new Dimension(plan.width, plan.height);
+    }
+
+    // Runs every transformer that is not a Transform right away, leaving the Transforms after the last of them as a plan
+    private static Staged stage(BufferedImage image, final int x, final int y, final int w, final int h, final List<? extends UnaryOperator<BufferedImage>> transformers) {
+        TransformPlan plan = new TransformPlan(image.getWidth(), image.getHeight());
+        plan.crop(x, y, w, h);
+        for (final UnaryOperator<BufferedImage> transformer : transformers) {
+            if (transformer instanceof Transform transform) {
+                plan.add(transform);
+            } else {
+                image = transformer.apply(plan.render(image));
+                plan = new TransformPlan(image.getWidth(), image.getHeight());
+            }
+        }
+        return new Staged(image, plan);
+    }
+
+    private record Staged(BufferedImage source, TransformPlan plan) {
+    }
+
+    private void add(final Transform transform) {
+        composited |= !(transform instanceof Transform.Crop);
+        if (transform instanceof Dihedral dihedral) {
+            orient(dihedral);
+        } else if (transform instanceof Transform.Crop crop) {
+            final Box box = crop.box();
+            crop(box.scaleX(width), box.scaleY(height), box.scaleW(width), box.scaleH(height));
+        } else if (transform instanceof Transform.Clip clip) {
+            final Box box = clip.box();
+            final int x = box.scaleX(width);
+            final int y = box.scaleY(height);
+            clip(x, y, x + box.scaleW(width), y + box.scaleH(height));
+        } else if (transform instanceof Transform.Extend extend) {
+            final int sourceWidth = extend.sourceWidth();
+            final int sourceHeight = extend.sourceHeight();
+            extend(extend.x() * width / sourceWidth, extend.y() * height / sourceHeight, extend.width() * width / sourceWidth, extend.height() * height / sourceHeight);
+        } else if (transform instanceof Transform.Square) {
+            final int size = Math.max(width, height);
+            extend((size - width) / 2, (size - height) / 2, size, size);
+        } else if (transform instanceof Transform.StackFrames stackFrames) {
+            stackFrames(stackFrames.frameCount());
+        }
+    }
+
+    private void crop(final int x, final int y, final int w, final int h) {
+        // Same bounds as getSubimage, which cropping used to go through
+        if (w <= 0 || h <= 0 || x < 0 || y < 0 || x + w > width || y + h > height) {
+            throw new RasterFormatException("Crop " + w + "x" + h + " at " + x + "," + y + " is outside of a " + width + "x" + height + " image");
+        }
+        clip(x, y, x + w, y + h);
+        translate(-x, -y);
+        width = w;
+        height = h;
+    }
+
+    private void clip(final int minX, final int minY, final int maxX, final int maxY) {
+        final List<Piece> clipped = new ArrayList<>(pieces.size());
+        for (final Piece piece : pieces) {
+            final Piece part = piece.intersect(minX, minY, maxX, maxY);
+            if (part != null) {
+                clipped.add(part);
+            }
+        }
+        pieces = clipped;
+    }
+
+    private void translate(final int dx, final int dy) {
+        pieces = pieces.stream().map(piece -> piece.translate(dx, dy)).toList();
+    }
+
+    private void extend(final int x, final int y, final int newWidth, final int newHeight) {
+        translate(x, y);
+        width = newWidth;
+        height = newHeight;
+        clip(0, 0, newWidth, newHeight);
+    }
+
+    private void orient(final Dihedral dihedral) {
+        final int canvasWidth = width;
+        final int canvasHeight = height;
+        pieces = pieces.stream().map(piece -> piece.orient(dihedral, canvasWidth, canvasHeight)).toList();
+        if (dihedral.swapsAxes()) {
+            width = canvasHeight;
+            height = canvasWidth;
+        }
+    }
+
+    private void stackFrames(final int frameCount) {
+        final int frameWidth = width / frameCount;
+        final List<Piece> stacked = new ArrayList<>();
+        for (int frame = 0; frame < frameCount; frame++) {
+            for (final Piece piece : pieces) {
+                final Piece part = piece.intersect(frame * frameWidth, 0, (frame + 1) * frameWidth, height);
+                if (part != null) {
+                    stacked.add(part.translate(-frame * frameWidth, frame * height));
+                }
+            }
+        }
+        pieces = stacked;
+        width = frameWidth;
+        height *= frameCount;
+    }
+
+    private BufferedImage render(final BufferedImage source) {
+        // A plain crop needs no copy at all
+        if (pieces.size() == 1 && !composited) {
+            final Piece piece = pieces.get(0);
+            if (piece.orientation() == Dihedral.IDENTITY && piece.x() == 0 && piece.y() == 0 && piece.sourceWidth() == width && piece.sourceHeight() == height) {
+                if (width == source.getWidth() && height == source.getHeight()) {
+                    return source;
+                }
+                return source.getSubimage(piece.sourceX(), piece.sourceY(), width, height);
+            }
+        }
+        final BufferedImage result = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        draw(Pixels.of(source), Pixels.argbData(result), 0, width, composited);
+        return result;
+    }
+
+    private void draw(final Pixels source, final int[] target, final int targetOffset, final int targetStride, final boolean blend) {
+        for (final Piece piece : pieces) {
+            final int pieceOffset = targetOffset + piece.y() * targetStride + piece.x();
+            piece.orientation().copy(source, piece.sourceX(), piece.sourceY(), piece.sourceWidth(), piece.sourceHeight(), target, pieceOffset, targetStride, blend);
+        }
+    }
+
+    // A source rectangle, the orientation it is copied with and where it lands on the canvas
+    private record Piece(int sourceX, int sourceY, int sourceWidth, int sourceHeight, Dihedral orientation, int x, int y) {
+        int width() {
+            return orientation.swapsAxes() ? sourceHeight : sourceWidth;
+        }
+
+        int height() {
+            return orientation.swapsAxes() ? sourceWidth : sourceHeight;
+        }
+
+        Piece translate(final int dx, final int dy) {
+            return new Piece(sourceX, sourceY, sourceWidth, sourceHeight, orientation, x + dx, y + dy);
+        }
+
+        @Nullable Piece intersect(final int minX, final int minY, final int maxX, final int maxY) {
+            final int x0 = Math.max(x, minX);
+            final int y0 = Math.max(y, minY);
+            final int x1 = Math.min(x + width(), maxX);
+            final int y1 = Math.min(y + height(), maxY);
+            if (x0 >= x1 || y0 >= y1) {
+                return null;
+            }
+            if (x0 == x && y0 == y && x1 == x + width() && y1 == y + height()) {
+                return this;
+            }
+
+            // Map the visible part back onto the source: undo the transpose, then the flips
+            final boolean swap = orientation.swapsAxes();
+            int left = (swap ? y0 - y : x0 - x);
+            int right = (swap ? y1 - y : x1 - x);
+            int top = (swap ? x0 - x : y0 - y);
+            int bottom = (swap ? x1 - x : y1 - y);
+            if (orientation.flipsX()) {
+                final int flippedLeft = sourceWidth - right;
+                right = sourceWidth - left;
+                left = flippedLeft;
+            }
+            if (orientation.flipsY()) {
+                final int flippedTop = sourceHeight - bottom;
+                bottom = sourceHeight - top;
+                top = flippedTop;
+            }
+            return new Piece(sourceX + left, sourceY + top, right - left, bottom - top, orientation, x0, y0);
+        }
+
+        Piece orient(final Dihedral dihedral, final int canvasWidth, final int canvasHeight) {
+            int newX = dihedral.flipsX() ? canvasWidth - x - width() : x;
+            int newY = dihedral.flipsY() ? canvasHeight - y - height() : y;
+            if (dihedral.swapsAxes()) {
+                final int swap = newX;
+                newX = newY;
+                newY = swap;
+            }
+            return new Piece(sourceX, sourceY, sourceWidth, sourceHeight, orientation.then(dihedral), newX, newY);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import org.jspecify.annotations.Nullable;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+// Index of the entries of an input zip, used to move their compressed bytes into an output zip without inflating them
+final class ZipInput implements Closeable {
+    private static final int LOCAL_HEADER = 0x04034b50;
+    private static final int CENTRAL_HEADER = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY = 0x06064b50;
+    private static final int ZIP64_LOCATOR = 0x07064b50;
+    private static final int FLAG_ENCRYPTED = 0x1;
+    private static final long MAX_32 = 0xffffffffL;
+
+    private final FileChannel channel;
+    private final Map<String, Entry> entries;
+
+    private ZipInput(final FileChannel channel, final Map<String, Entry> entries) {
+        this.channel = channel;
+        this.entries = entries;
+    }
+
+    record Entry(int method, long crc, long compressedSize, long size, long headerOffset) {
+    }
+
+    static ZipInput open(final Path file) throws IOException {
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        try {
+            return new ZipInput(channel, readEntries(channel));
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Nullable Entry entry(final String name) {
+        return entries.get(name);
+    }
+
+    byte[] readRaw(final Entry entry) throws IOException {
+        final ByteBuffer header = read(channel, entry.headerOffset(), 30);
+        if (header.getInt(0) != LOCAL_HEADER) {
+            throw new IOException("Corrupt zip entry at offset " + entry.headerOffset());
+        }
+        final long dataOffset = entry.headerOffset() + 30 + (header.getShort(26) & 0xffff) + (header.getShort(28) & 0xffff);
+        return read(channel, dataOffset, (int) entry.compressedSize()).array();
+    }
+
+    private static ByteBuffer read(final FileChannel channel, final long position, final int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of zip file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static Map<String, Entry> readEntries(final FileChannel channel) throws IOException {
+        final long fileSize = channel.size();
+        final int tailLength = (int) Math.min(fileSize, 22 + 0xffff + 20);
+        final ByteBuffer tail = read(channel, fileSize - tailLength, tailLength);
+
+        int end = -1;
+        for (int i = tailLength - 22; i >= 0; i--) {
+            if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY) {
+                end = i;
+                break;
+            }
+        }
+        if (end < 0) {
+            throw new IOException("Not a zip file");
+        }
+
+        long count = tail.getShort(end + 10) & 0xffff;
+        long directoryOffset = tail.getInt(end + 16) & MAX_32;
+        if (end >= 20 && tail.getInt(end - 20) == ZIP64_LOCATOR) {
+            final ByteBuffer record = read(channel, tail.getLong(end - 12), 56);
+            if (record.getInt(0) == ZIP64_END_OF_CENTRAL_DIRECTORY) {
+                count = record.getLong(32);
+                directoryOffset = record.getLong(48);
+            }
+        }
+
+        final long directorySize = fileSize - directoryOffset;
+        if (directoryOffset < 0 || directorySize > Integer.MAX_VALUE) {
+            throw new IOException("Unsupported zip central directory");
+        }
+        final ByteBuffer directory = read(channel, directoryOffset, (int) directorySize);
+
+        final Map<String, Entry> entries = new HashMap<>();
+        int position = 0;
+        for (long i = 0; i < count && position + 46 <= directory.limit(); i++) {
+            if (directory.getInt(position) != CENTRAL_HEADER) {
+                throw new IOException("Corrupt zip central directory");
+            }
+            final int flags = directory.getShort(position + 8) & 0xffff;
+            final int method = directory.getShort(position + 10) & 0xffff;
+            final long crc = directory.getInt(position + 16) & MAX_32;
+            long compressedSize = directory.getInt(position + 20) & MAX_32;
+            long size = directory.getInt(position + 24) & MAX_32;
+            final int nameLength = directory.getShort(position + 28) & 0xffff;
+            final int extraLength = directory.getShort(position + 30) & 0xffff;
+            final int commentLength = directory.getShort(position + 32) & 0xffff;
+            long headerOffset = directory.getInt(position + 42) & MAX_32;
+
+            final byte[] name = new byte[nameLength];
+            directory.get(position + 46, name);
+
+            // Zip64 sizes and offsets only appear in the extra field when the regular field overflowed
+            int extra = position + 46 + nameLength;
+            final int extraEnd = extra + extraLength;
+            while (extra + 4 <= extraEnd) {
+                final int id = directory.getShort(extra) & 0xffff;
+                final int length = directory.getShort(extra + 2) & 0xffff;
+                if (id == 0x0001) {
+                    int field = extra + 4;
+                    if (size == MAX_32) {
+                        size = directory.getLong(field);
+                        field += 8;
+                    }
+                    if (compressedSize == MAX_32) {
+                        compressedSize = directory.getLong(field);
+                        field += 8;
+                    }
+                    if (headerOffset == MAX_32) {
+                        headerOffset = directory.getLong(field);
+                    }
+                }
+                extra += 4 + length;
+            }
+
+            if ((flags & FLAG_ENCRYPTED) == 0 && (method == ZipOutput.METHOD_STORED || method == ZipOutput.METHOD_DEFLATED) && compressedSize <= Integer.MAX_VALUE - 8) {
+                entries.put(new String(name, StandardCharsets.UTF_8), new Entry(method, crc, compressedSize, size, headerOffset));
+            }
+            position = extraEnd + commentLength;
+        }
+        return entries;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,216 @@
+// Copyright (c) Microsoft Corporation. All rights reserved.
+// Licensed under the MIT license.
+
+package com.mojang.slicer.library;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+// Writes a zip archive in a single pass. Entries are compressed by the calling thread, only appending them is serialized
+final class ZipOutput implements PackOutput {
+    static final int METHOD_STORED = 0;
+    static final int METHOD_DEFLATED = 8;
+
+    private static final int LOCAL_HEADER = 0x04034b50;
+    private static final int CENTRAL_HEADER = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY = 0x06064b50;
+    private static final int ZIP64_LOCATOR = 0x07064b50;
+    private static final int FLAG_UTF8 = 0x800;
+    private static final int VERSION = 20;
+    private static final int VERSION_ZIP64 = 45;
+    private static final long MAX_32 = 0xffffffffL;
+    private static final int MAX_16 = 0xffff;
+
+    private final Path file;
+    private final OutputStream os;
+    private final int dosTime;
+    private final int dosDate;
+    // Entries written again later replace the earlier ones, just like files in a directory
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+    private long position;
+
+    ZipOutput(final Path file) throws IOException {
+        this(file, create(file));
+    }
+
+    // Writes the archive to the stream, which it closes once the archive is complete. file only names it in messages
+    ZipOutput(final Path file, final OutputStream os) {
+        this.file = file;
+        this.os = new BufferedOutputStream(os, 1 << 16);
+
+        final LocalDateTime now = LocalDateTime.now();
+        this.dosTime = now.getHour() << 11 | now.getMinute() << 5 | now.getSecond() / 2;
+        this.dosDate = Math.max(now.getYear() - 1980, 0) << 9 | now.getMonthValue() << 5 | now.getDayOfMonth();
+    }
+
+    private static OutputStream create(final Path file) throws IOException {
+        final Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        return Files.newOutputStream(file);
+    }
+
+    @Override
+    public String describe(final String path) {
+        return file.toAbsolutePath() + "!/" + path;
+    }
+
+    @Override
+    public boolean write(final String path, final byte[] data, final boolean compressed) throws IOException {
+        final CRC32 crc = new CRC32();
+        crc.update(data);
+        if (!compressed) {
+            final byte[] deflated = deflate(data);
+            if (deflated.length < data.length) {
+                append(path, METHOD_DEFLATED, crc.getValue(), data.length, deflated);
+                return true;
+            }
+        }
+        append(path, METHOD_STORED, crc.getValue(), data.length, data);
+        return true;
+    }
+
+    @Override
+    public boolean copy(final Path source, final String path, final boolean compressed) throws IOException {
+        return write(path, Files.readAllBytes(source), compressed);
+    }
+
+    @Override
+    public synchronized boolean exists(final String path) {
+        return entries.containsKey(path);
+    }
+
+    private static byte[] deflate(final byte[] data) {
+        final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 64);
+            final byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    synchronized void append(final String path, final int method, final long crc, final long size, final byte[] data) throws IOException {
+        if (size >= MAX_32) {
+            throw new IOException("Zip entry " + path + " is too large");
+        }
+        final byte[] name = path.getBytes(StandardCharsets.UTF_8);
+        final Entry entry = new Entry(name, method, crc, data.length, size, position);
+
+        final ByteBuffer header = ByteBuffer.allocate(30).order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(LOCAL_HEADER);
+        header.putShort((short) VERSION);
+        header.putShort((short) FLAG_UTF8);
+        header.putShort((short) method);
+        header.putShort((short) dosTime);
+        header.putShort((short) dosDate);
+        header.putInt((int) crc);
+        header.putInt(data.length);
+        header.putInt((int) size);
+        header.putShort((short) name.length);
+        header.putShort((short) 0);
+        os.write(header.array());
+        os.write(name);
+        os.write(data);
+        position += header.capacity() + name.length + data.length;
+
+        entries.remove(path);
+        entries.put(path, entry);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try (os) {
+            final long directoryStart = position;
+            for (final Entry entry : entries.values()) {
+                final boolean zip64 = entry.offset() >= MAX_32;
+                final ByteBuffer header = ByteBuffer.allocate(46).order(ByteOrder.LITTLE_ENDIAN);
+                header.putInt(CENTRAL_HEADER);
+                header.putShort((short) (zip64 ? VERSION_ZIP64 : VERSION));
+                header.putShort((short) (zip64 ? VERSION_ZIP64 : VERSION));
+                header.putShort((short) FLAG_UTF8);
+                header.putShort((short) entry.method());
+                header.putShort((short) dosTime);
+                header.putShort((short) dosDate);
+                header.putInt((int) entry.crc());
+                header.putInt((int) entry.compressedSize());
+                header.putInt((int) entry.size());
+                header.putShort((short) entry.name().length);
+                header.putShort((short) (zip64 ? 12 : 0));
+                header.putShort((short) 0);
+                header.putShort((short) 0);
+                header.putShort((short) 0);
+                header.putInt(0);
+                header.putInt((int) Math.min(entry.offset(), MAX_32));
+                os.write(header.array());
+                os.write(entry.name());
+                position += header.capacity() + entry.name().length;
+
+                if (zip64) {
+                    final ByteBuffer extra = ByteBuffer.allocate(12).order(ByteOrder.LITTLE_ENDIAN);
+                    extra.putShort((short) 1);
+                    extra.putShort((short) 8);
+                    extra.putLong(entry.offset());
+                    os.write(extra.array());
+                    position += extra.capacity();
+                }
+            }
+            final long directorySize = position - directoryStart;
+            final int count = entries.size();
+
+            if (count >= MAX_16 || directoryStart >= MAX_32 || directorySize >= MAX_32) {
+                final long recordStart = position;
+                final ByteBuffer record = ByteBuffer.allocate(56 + 20).order(ByteOrder.LITTLE_ENDIAN);
+                record.putInt(ZIP64_END_OF_CENTRAL_DIRECTORY);
+                record.putLong(44);
+                record.putShort((short) VERSION_ZIP64);
+                record.putShort((short) VERSION_ZIP64);
+                record.putInt(0);
+                record.putInt(0);
+                record.putLong(count);
+                record.putLong(count);
+                record.putLong(directorySize);
+                record.putLong(directoryStart);
+                record.putInt(ZIP64_LOCATOR);
+                record.putInt(0);
+                record.putLong(recordStart);
+                record.putInt(1);
+                os.write(record.array());
+            }
+
+            final ByteBuffer end = ByteBuffer.allocate(22).order(ByteOrder.LITTLE_ENDIAN);
+            end.putInt(END_OF_CENTRAL_DIRECTORY);
+            end.putShort((short) 0);
+            end.putShort((short) 0);
+            end.putShort((short) Math.min(count, MAX_16));
+            end.putShort((short) Math.min(count, MAX_16));
+            end.putInt((int) Math.min(directorySize, MAX_32));
+            end.putInt((int) Math.min(directoryStart, MAX_32));
+            end.putShort((short) 0);
+            os.write(end.array());
+        }
+    }
+
+    private record Entry(byte[] name, int method, long crc, long compressedSize, long size, long offset) {
+    }
+}